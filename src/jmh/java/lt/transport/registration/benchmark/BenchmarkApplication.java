@@ -0,0 +1,32 @@
+package lt.transport.registration.benchmark;
+
+import lt.transport.registration.TransportRegistrationSystemApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType) {
+        return start(webApplicationType, "WARN");
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String applicationLogLevel,
+                                                String... properties) {
+        return new SpringApplicationBuilder(TransportRegistrationSystemApplication.class)
+                .web(webApplicationType)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "server.port=0",
+                        "logging.level.root=WARN",
+                        "logging.level.lt.transport.registration=" + applicationLogLevel,
+                        "logging.level.lt.transport.registration.service=" + applicationLogLevel)
+                .properties(properties)
+                .run();
+    }
+}
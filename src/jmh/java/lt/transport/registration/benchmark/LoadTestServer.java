@@ -0,0 +1,32 @@
+package lt.transport.registration.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Runs the application as a standalone server for {@link VirtualThreadLoadBenchmark}, so the load clients and the
+ * server under test do not share a JVM. The first argument is the file the chosen port is written to; the rest are
+ * application properties.
+ */
+final class LoadTestServer {
+
+    private LoadTestServer() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ProcessHandle.current().parent().ifPresent(parent -> parent.onExit().thenRun(() -> System.exit(0)));
+        String[] properties = new String[args.length - 1];
+        System.arraycopy(args, 1, properties, 0, properties.length);
+        ConfigurableApplicationContext context = BenchmarkApplication.start(WebApplicationType.SERVLET, "WARN", properties);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        Path portFile = Path.of(args[0]);
+        Path tempFile = Files.createTempFile(portFile.toAbsolutePath().getParent(), "port", ".tmp");
+        Files.writeString(tempFile, Integer.toString(port));
+        Files.move(tempFile, portFile, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
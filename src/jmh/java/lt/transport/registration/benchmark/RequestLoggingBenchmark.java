@@ -0,0 +1,82 @@
+package lt.transport.registration.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.service.VehicleRegistrationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    @Param({"INFO", "OFF"})
+    private String applicationLogLevel;
+
+    private ConfigurableApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    private ObjectMapper objectMapper;
+
+    private Long vehicleId;
+
+    private final AtomicLong plateSequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.SERVLET, applicationLogLevel);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        objectMapper = context.getBean(ObjectMapper.class);
+        vehicleId = context.getBean(VehicleRegistrationService.class).saveVehicleRegistration(new VehicleRegistrationRequest(
+                "LOG000", "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000")).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getVehicleRegistration() throws Exception {
+        return mockMvc.perform(get("/vehicles/{vehicleId}", vehicleId)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult registerVehicle() throws Exception {
+        return mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new VehicleRegistrationRequest(
+                                "L" + plateSequence.incrementAndGet(), "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000"))))
+                .andReturn();
+    }
+}
@@ -0,0 +1,51 @@
+package lt.transport.registration.benchmark;
+
+import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
+import lt.transport.registration.entity.VehicleRegistration;
+import lt.transport.registration.mapper.VehicleRegistrationMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VehicleRegistrationMapperBenchmark {
+
+    private VehicleRegistration vehicleRegistration;
+
+    @Setup
+    public void setUp() {
+        vehicleRegistration = VehicleRegistration.builder()
+                .id(1L)
+                .plateNo("abc123")
+                .plateKey("ABC123")
+                .make("Toyota")
+                .model("Corolla")
+                .year(2020)
+                .ownerName("Jonas")
+                .ownerSurname("Petrauskas")
+                .ownerLegalName("UAB ABC")
+                .ownerCode("39601010000")
+                .ownershipHistory(new ArrayList<>())
+                .build();
+    }
+
+    @Benchmark
+    public VehicleRegistrationDetailsResponse toDto() {
+        return VehicleRegistrationMapper.INSTANCE.toDto(vehicleRegistration);
+    }
+}
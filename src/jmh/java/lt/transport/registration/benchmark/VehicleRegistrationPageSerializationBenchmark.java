@@ -0,0 +1,55 @@
+package lt.transport.registration.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
+import lt.transport.registration.dto.VehicleRegistrationPageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VehicleRegistrationPageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private VehicleRegistrationPageResponse page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<VehicleRegistrationDetailsResponse> content = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            content.add(new VehicleRegistrationDetailsResponse(id, "abc" + id, "Toyota", "Corolla", 2020,
+                    "Jonas", "Petrauskas", null, "39601010000", 0L, LocalDateTime.of(2025, 1, 15, 10, 0)));
+        }
+        page = new VehicleRegistrationPageResponse(content, 0, pageSize, 10, 10L * pageSize, "eyJzb3J0QnkiOiJpZCJ9");
+    }
+
+    @Benchmark
+    public byte[] writePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
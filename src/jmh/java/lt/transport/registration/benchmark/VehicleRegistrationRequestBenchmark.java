@@ -0,0 +1,86 @@
+package lt.transport.registration.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.service.VehicleRegistrationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VehicleRegistrationRequestBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    private ObjectMapper objectMapper;
+
+    private Long vehicleId;
+
+    private long plateSequence;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.SERVLET);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        objectMapper = context.getBean(ObjectMapper.class);
+        VehicleRegistrationService vehicleRegistrationService = context.getBean(VehicleRegistrationService.class);
+        for (int i = 0; i < 100; i++) {
+            vehicleId = vehicleRegistrationService.saveVehicleRegistration(new VehicleRegistrationRequest(
+                    "GET" + i, "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000")).getId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getVehicleRegistration() throws Exception {
+        return mockMvc.perform(get("/vehicles/{vehicleId}", vehicleId)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getVehicleRegistrationPage() throws Exception {
+        return mockMvc.perform(get("/vehicles")
+                        .param("size", "20")
+                        .param("includeTotal", "false"))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult registerVehicle() throws Exception {
+        return mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new VehicleRegistrationRequest(
+                                "R" + plateSequence++, "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000"))))
+                .andReturn();
+    }
+}
@@ -0,0 +1,65 @@
+package lt.transport.registration.benchmark;
+
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.entity.VehicleRegistration;
+import lt.transport.registration.service.VehicleRegistrationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VehicleRegistrationServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private VehicleRegistrationService vehicleRegistrationService;
+
+    private Long transferVehicleId;
+
+    private long plateSequence;
+
+    private long transferSequence;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(WebApplicationType.NONE);
+        vehicleRegistrationService = context.getBean(VehicleRegistrationService.class);
+        transferVehicleId = vehicleRegistrationService.saveVehicleRegistration(new VehicleRegistrationRequest(
+                "TRF000", "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000")).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public VehicleRegistration saveVehicleRegistration() {
+        return vehicleRegistrationService.saveVehicleRegistration(new VehicleRegistrationRequest(
+                "B" + plateSequence++, "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000"));
+    }
+
+    @Benchmark
+    public VehicleRegistration transferOwnerOfVehicleRegistration() {
+        long sequence = transferSequence++;
+        return vehicleRegistrationService.transferOwnerOfVehicleRegistration(transferVehicleId,
+                "Petras" + sequence, "Petraitis", null, "3900101" + (sequence % 10000), null);
+    }
+}
@@ -0,0 +1,127 @@
+package lt.transport.registration.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(1024)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+
+    private static final String OWNER_CODE = "39601010000";
+
+    private static final Duration SERVER_START_TIMEOUT = Duration.ofMinutes(2);
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private Process server;
+
+    private HttpClient httpClient;
+
+    private URI vehicleUri;
+
+    private URI ownerVehiclesUri;
+
+    /**
+     * Starts the server in its own JVM with {@code -Djdk.tracePinnedThreads=short}; its output, including any pinned
+     * thread stacks, goes to {@code target/load-server-<mode>.log}. Client and server still share the host's cores,
+     * so give them separate cores or hosts before comparing the modes.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        Path portFile = Path.of("target", "load-server-" + mode + ".port").toAbsolutePath();
+        Path logFile = portFile.resolveSibling("load-server-" + mode + ".log");
+        Files.deleteIfExists(portFile);
+        server = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Djdk.tracePinnedThreads=short",
+                "-cp", System.getProperty("java.class.path"),
+                LoadTestServer.class.getName(), portFile.toString(),
+                "spring.threads.virtual.enabled=" + virtualThreads)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        int port = awaitPort(portFile, logFile);
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        URI registerUri = URI.create("http://localhost:" + port + "/vehicles/register");
+        long vehicleId = 0;
+        for (int i = 0; i < 50; i++) {
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(registerUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(new VehicleRegistrationRequest(
+                            "LOAD" + i, "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, OWNER_CODE))))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            vehicleId = objectMapper.readTree(response.body()).get("vehicleId").asLong();
+        }
+        vehicleUri = URI.create("http://localhost:" + port + "/vehicles/" + vehicleId);
+        ownerVehiclesUri = URI.create("http://localhost:" + port + "/owners/" + OWNER_CODE + "/vehicles?size=20");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        httpClient.close();
+        server.destroy();
+        server.waitFor(30, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public int getCachedVehicleRegistration() throws Exception {
+        return send(vehicleUri);
+    }
+
+    @Benchmark
+    public int getOwnerVehiclesFromDatabase() throws Exception {
+        return send(ownerVehiclesUri);
+    }
+
+    private int awaitPort(Path portFile, Path logFile) throws Exception {
+        Instant deadline = Instant.now().plus(SERVER_START_TIMEOUT);
+        while (!Files.exists(portFile)) {
+            if (!server.isAlive() || Instant.now().isAfter(deadline)) {
+                server.destroy();
+                throw new IllegalStateException("Load test server did not start, see " + logFile);
+            }
+            Thread.sleep(100);
+        }
+        return Integer.parseInt(Files.readString(portFile).trim());
+    }
+
+    private int send(URI uri) throws Exception {
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,75 @@
+package lt.transport.registration.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lt.transport.registration.util.TransactionUtil;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Read-through cache shared by the vehicle caches. It is asynchronous so that a miss only installs a future while
+ * holding the map lock and the caller reads the database afterwards; a synchronous {@code get} runs the loader inside
+ * that lock, which pins a virtual thread to its carrier while it waits for a connection or the query. Concurrent
+ * readers of the same key wait for that future, and an invalidation removes it, so a load that races an
+ * invalidation is not cached.
+ */
+class ReadThroughAsyncCache<K, V> {
+
+    private final AsyncCache<K, V> cache;
+
+    ReadThroughAsyncCache(String name, long maximumSize, Duration expireAfterWrite, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    V get(K key, Function<K, V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> cached = cache.get(key, (k, executor) -> loading);
+        if (cached != loading) {
+            try {
+                return cached.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+        try {
+            V value = loader.apply(key);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            loading.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    Map<K, V> getAllPresent(Iterable<K> keys) {
+        return cache.synchronous().getAllPresent(keys);
+    }
+
+    void invalidateAfterCommit(K key) {
+        if (key != null) {
+            TransactionUtil.runAfterCommit(() -> cache.synchronous().invalidate(key));
+        }
+    }
+
+    void invalidateAllAfterCommit(Collection<K> keys) {
+        if (!keys.isEmpty()) {
+            TransactionUtil.runAfterCommit(() -> cache.synchronous().invalidateAll(keys));
+        }
+    }
+
+    void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+}
@@ -0,0 +1,40 @@
+package lt.transport.registration.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+public class VehicleDetailsCache {
+
+    private final ReadThroughAsyncCache<Long, VehicleRegistrationDetailsResponse> cache;
+
+    @Autowired
+    public VehicleDetailsCache(@Value("${vehicle.cache.details.maximum-size:10000}") long maximumSize,
+                               @Value("${vehicle.cache.details.expire-after-write:PT10M}") Duration expireAfterWrite,
+                               MeterRegistry meterRegistry) {
+        this.cache = new ReadThroughAsyncCache<>("vehicleDetailsCache", maximumSize, expireAfterWrite, meterRegistry);
+    }
+
+    public VehicleRegistrationDetailsResponse get(Long vehicleId, Function<Long, VehicleRegistrationDetailsResponse> loader) {
+        return cache.get(vehicleId, loader);
+    }
+
+    public Map<Long, VehicleRegistrationDetailsResponse> getAllPresent(Iterable<Long> keys) {
+        return cache.getAllPresent(keys);
+    }
+
+    public void invalidateAfterCommit(Long vehicleId) {
+        cache.invalidateAfterCommit(vehicleId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,45 @@
+package lt.transport.registration.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+public class VehiclePlateCache {
+
+    private final ReadThroughAsyncCache<String, VehicleRegistrationDetailsResponse> cache;
+
+    @Autowired
+    public VehiclePlateCache(@Value("${vehicle.cache.plate.maximum-size:10000}") long maximumSize,
+                             @Value("${vehicle.cache.plate.expire-after-write:PT10M}") Duration expireAfterWrite,
+                             MeterRegistry meterRegistry) {
+        this.cache = new ReadThroughAsyncCache<>("vehiclePlateCache", maximumSize, expireAfterWrite, meterRegistry);
+    }
+
+    public VehicleRegistrationDetailsResponse get(String plateKey, Function<String, VehicleRegistrationDetailsResponse> loader) {
+        return cache.get(plateKey, loader);
+    }
+
+    public Map<String, VehicleRegistrationDetailsResponse> getAllPresent(Iterable<String> keys) {
+        return cache.getAllPresent(keys);
+    }
+
+    public void invalidateAfterCommit(String plateKey) {
+        cache.invalidateAfterCommit(plateKey);
+    }
+
+    public void invalidateAllAfterCommit(Collection<String> plateKeys) {
+        cache.invalidateAllAfterCommit(plateKeys);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
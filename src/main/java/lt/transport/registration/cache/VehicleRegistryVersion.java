@@ -0,0 +1,45 @@
+package lt.transport.registration.cache;
+
+import lt.transport.registration.util.TransactionUtil;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registry-wide change counter used to validate list responses. It is bumped after every committed registration,
+ * transfer and deletion, so a list ETag stays valid exactly as long as nothing in the registry has changed. The
+ * counter lives in memory like the other caches; the startup time in the ETag keeps tags from a previous run
+ * from matching.
+ */
+@Component
+public class VehicleRegistryVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(Snapshot.of(0));
+
+    public void incrementAfterCommit() {
+        TransactionUtil.runAfterCommit(() -> current.updateAndGet(snapshot -> Snapshot.of(snapshot.counter() + 1)));
+    }
+
+    public Snapshot current() {
+        return current.get();
+    }
+
+    public String toETag(Snapshot snapshot) {
+        return "\"" + epoch + "-" + snapshot.counter() + "\"";
+    }
+
+    /**
+     * @param lastModified when the counter last changed, truncated to the one-second resolution of {@code Last-Modified}
+     *                     so that an {@code If-Modified-Since} echoed back by a client compares equal to it
+     */
+    public record Snapshot(long counter, Instant lastModified) {
+
+        static Snapshot of(long counter) {
+            return new Snapshot(counter, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package lt.transport.registration.config;
+
+import lt.transport.registration.metrics.DbStatementMetricsInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final DbStatementMetricsInterceptor dbStatementMetricsInterceptor;
+
+    @Autowired
+    public WebMvcConfig(DbStatementMetricsInterceptor dbStatementMetricsInterceptor) {
+        this.dbStatementMetricsInterceptor = dbStatementMetricsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(dbStatementMetricsInterceptor).addPathPatterns("/vehicles/**", "/owners/**");
+    }
+}
@@ -4,6 +4,7 @@ public class ResponseMessages {
 
     public static final String VEHICLE_REGISTERED_SUCCESSFULLY = "Transporto priemonė sėkmingai užregistruota";
     public static final String PLATE_NO_ALREADY_EXISTS = "Transporto priemonė su šiais numeriais jau egzistuoja";
+    public static final String VEHICLE_REGISTRATION_REJECTED = "Transporto priemonės duomenų nepavyko įrašyti: jie pažeidžia duomenų bazės apribojimus";
     public static final String REQUEST_BODY_CANNOT_BE_NULL = "Užklausa negali būti tuščia";
     public static final String PLATE_NO_IS_REQUIRED = "Valstybinis numeris yra privalomas";
     public static final String MAKE_IS_REQUIRED = "Gamintojas yra privalomas";
@@ -15,5 +16,17 @@ public class ResponseMessages {
     public static final String CURRENT_OWNER_OF_THE_VEHICLE_NOT_FOUND = "Transporto priemonės esamas savininkas nerastas";
     public static final String VEHICLE_OWNER_TRANSFERRED = "Transporto priemonės savininkystė sėkmingai perleista";
     public static final String VEHICLE_NOT_FOUND = "Transporto priemonė su id %s neegzistuoja";
+    public static final String VEHICLE_WITH_PLATE_NO_NOT_FOUND = "Transporto priemonė su valstybiniu numeriu %s neegzistuoja";
     public static final String VEHICLE_DELETED = "Transporto priemonė sėkmingai pašalinta";
+    public static final String INVALID_PAGE_CURSOR = "Neteisingas puslapio žymeklis";
+    public static final String UNSUPPORTED_EXPORT_FORMAT = "Nepalaikomas eksporto formatas: %s";
+    public static final String VEHICLE_ID_IS_REQUIRED = "Transporto priemonės ID yra privalomas";
+    public static final String VEHICLE_VERSION_MISMATCH = "Transporto priemonės duomenys buvo pakeisti, dabartinė versija: %s";
+    public static final String INVALID_IF_MATCH = "Neteisinga If-Match antraštės reikšmė";
+    public static final String CONCURRENT_VEHICLE_MODIFICATION = "Transporto priemonės duomenys tuo pačiu metu buvo pakeisti kitos užklausos, bandykite dar kartą";
+    public static final String BULK_DELETE_CRITERIA_REQUIRED = "Nurodykite transporto priemonių ID sąrašą arba savininko kodą, bet ne abu";
+    public static final String ARCHIVED_VEHICLE_NOT_FOUND = "Archyvuota transporto priemonė su id %s neegzistuoja";
+    public static final String DUPLICATE_VEHICLE_IN_REQUEST = "Transporto priemonė su id %s užklausoje nurodyta kelis kartus";
+    public static final String LOOKUP_CRITERIA_REQUIRED = "Nurodykite bent vieną transporto priemonės ID arba valstybinį numerį";
+    public static final String LOOKUP_TOO_MANY_KEYS = "Vienoje užklausoje galima nurodyti ne daugiau kaip 1000 transporto priemonių ID ir valstybinių numerių";
 }
@@ -0,0 +1,47 @@
+package lt.transport.registration.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lt.transport.registration.dto.VehicleRegistrationPageResponse;
+import lt.transport.registration.service.VehicleRegistrationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/owners")
+@Tag(name = "Savininkai", description = "Transporto priemonių savininkų API")
+public class OwnerController {
+
+    private final VehicleRegistrationService vehicleRegistrationService;
+
+    @Autowired
+    public OwnerController(VehicleRegistrationService vehicleRegistrationService) {
+        this.vehicleRegistrationService = vehicleRegistrationService;
+    }
+
+    @GetMapping("/{ownerCode}/vehicles")
+    @Operation(
+            summary = "Gauti savininko transporto priemones",
+            description = "Gauti visas galiojančias transporto priemones, priklausančias savininkui su nurodytu asmens arba įmonės kodu. Kitas puslapis gaunamas pagal ankstesnio atsakymo žymeklį",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Sėkmingai gautas savininko transporto priemonių sąrašas",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleRegistrationPageResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Neteisingas puslapio žymeklis"),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public VehicleRegistrationPageResponse getOwnerVehicles(
+            @PathVariable @Schema(description = "Savininko asmens arba įmonės kodas", example = "39601010000") String ownerCode,
+            @RequestParam(value = "size", defaultValue = "10") @Parameter(description = "Elementų skaičius puslapyje") int size,
+            @RequestParam(value = "after", required = false) @Parameter(description = "Žymeklis (nextCursor) iš ankstesnio atsakymo") String after) {
+        return vehicleRegistrationService.findVehicleRegistrationsByOwnerCode(ownerCode, after, size);
+    }
+}
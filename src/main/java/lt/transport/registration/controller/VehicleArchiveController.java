@@ -0,0 +1,63 @@
+package lt.transport.registration.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lt.transport.registration.dto.ArchivedVehicleRegistrationResponse;
+import lt.transport.registration.service.VehicleArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/vehicles/archive")
+@Tag(name = "Transporto priemonių archyvas", description = "Pašalintų ir archyvuotų transporto priemonių API")
+public class VehicleArchiveController {
+
+    private final VehicleArchiveService vehicleArchiveService;
+
+    @Autowired
+    public VehicleArchiveController(VehicleArchiveService vehicleArchiveService) {
+        this.vehicleArchiveService = vehicleArchiveService;
+    }
+
+    @GetMapping("/{vehicleId}")
+    @Operation(
+            summary = "Gauti archyvuotą transporto priemonę",
+            description = "Gauti pašalintos ir į archyvą perkeltos transporto priemonės duomenis kartu su jos savininkystės istorija",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Sėkmingai gauta archyvuota transporto priemonė",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArchivedVehicleRegistrationResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "Archyvuota transporto priemonė nerasta pagal pateiktą ID"),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public ArchivedVehicleRegistrationResponse getArchivedVehicleRegistration(
+            @PathVariable("vehicleId") @Schema(description = "Transporto priemonės ID", example = "1") Long vehicleId) {
+        return vehicleArchiveService.findArchivedVehicleRegistrationById(vehicleId);
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Ieškoti archyvuotų transporto priemonių pagal valstybinį numerį",
+            description = "Gauti visas archyvuotas transporto priemones, kurios turėjo nurodytą valstybinį numerį, naujausiai archyvuotos pirmos",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Sėkmingai gautas archyvuotų transporto priemonių sąrašas",
+                            content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = ArchivedVehicleRegistrationResponse.class)))),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public List<ArchivedVehicleRegistrationResponse> getArchivedVehicleRegistrationsByPlateNo(
+            @RequestParam("plateNo") @Parameter(description = "Transporto priemonės valstybinis numeris", example = "ABC123") String plateNo) {
+        return vehicleArchiveService.findArchivedVehicleRegistrationsByPlateNo(plateNo);
+    }
+}
@@ -0,0 +1,155 @@
+package lt.transport.registration.controller;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lt.transport.registration.dto.ExportFormat;
+import lt.transport.registration.dto.VehicleBulkDeleteRequest;
+import lt.transport.registration.dto.VehicleBulkDeleteResponse;
+import lt.transport.registration.dto.VehicleBulkRegistrationResponse;
+import lt.transport.registration.dto.VehicleBulkTransferOwnerRequest;
+import lt.transport.registration.dto.VehicleBulkTransferOwnerResponse;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.service.VehicleBulkService;
+import lt.transport.registration.service.VehicleExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/vehicles")
+@Tag(name = "Transporto priemonių masinės operacijos", description = "Transporto priemonių masinių operacijų API")
+public class VehicleBulkController {
+
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final VehicleBulkService vehicleBulkService;
+
+    private final VehicleExportService vehicleExportService;
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public VehicleBulkController(VehicleBulkService vehicleBulkService, VehicleExportService vehicleExportService,
+                                 ObjectMapper objectMapper) {
+        this.vehicleBulkService = vehicleBulkService;
+        this.vehicleExportService = vehicleExportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(value = "/register/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Pridėti daug transporto priemonių",
+            description = "Užregistruoja transporto priemonių sąrašą paketais. Kiekvienam įrašui grąžinamas atskiras rezultatas: neteisingi įrašai ir jau egzistuojantys valstybiniai numeriai atmetami, kiti užregistruojami",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Masinio registravimo rezultatai",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleBulkRegistrationResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Užklausa tuščia arba neteisingo formato"),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public VehicleBulkRegistrationResponse createVehicleRegistrations(@RequestBody @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Transporto priemonių duomenų sąrašas",
+            required = true,
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = VehicleRegistrationRequest.class))))
+                                                                      List<VehicleRegistrationRequest> vehicleRegistrationRequests) {
+        return vehicleBulkService.registerVehicles(vehicleRegistrationRequests.iterator());
+    }
+
+    @PostMapping(value = "/register/bulk", consumes = APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Pridėti daug transporto priemonių iš NDJSON srauto",
+            description = "Užregistruoja transporto priemones iš NDJSON srauto (vienas JSON objektas eilutėje), skaitydama ir įrašydama jas paketais",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Masinio registravimo rezultatai",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleBulkRegistrationResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public VehicleBulkRegistrationResponse createVehicleRegistrationsFromStream(InputStream requestBody) throws IOException {
+        try (MappingIterator<VehicleRegistrationRequest> vehicleRegistrationRequests =
+                     objectMapper.readerFor(VehicleRegistrationRequest.class).readValues(requestBody)) {
+            return vehicleBulkService.registerVehicles(vehicleRegistrationRequests);
+        }
+    }
+
+    @PostMapping("/transfer-owner/bulk")
+    @Operation(
+            summary = "Perleisti daugelio transporto priemonių savininkystę",
+            description = "Perleidžia transporto priemonių savininkystę paketais: kiekvienas paketas vykdomas vienoje transakcijoje, "
+                    + "savininkystės istorija įrašoma paketu, o savininkai atnaujinami vienu paketiniu atnaujinimu. Kiekvienam įrašui grąžinamas atskiras rezultatas",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Masinio savininkystės perleidimo rezultatai",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleBulkTransferOwnerResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Užklausa tuščia arba neteisingo formato"),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public VehicleBulkTransferOwnerResponse transferOwners(@RequestBody @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Transporto priemonių ir naujų savininkų duomenų sąrašas",
+            required = true,
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = VehicleBulkTransferOwnerRequest.class))))
+                                                           List<VehicleBulkTransferOwnerRequest> transferOwnerRequests) {
+        return vehicleBulkService.transferOwners(transferOwnerRequests);
+    }
+
+    @DeleteMapping
+    @Operation(
+            summary = "Pašalinti daug transporto priemonių",
+            description = "Pažymi transporto priemones kaip negaliojančias pagal ID sąrašą arba savininko kodą. "
+                    + "Šalinama paketais: kiekvienas paketas yra vienas atnaujinimas, vykdomas atskiroje transakcijoje",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Pašalintų transporto priemonių skaičius",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleBulkDeleteResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Nenurodytas nei ID sąrašas, nei savininko kodas, arba nurodyti abu"),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public VehicleBulkDeleteResponse deleteVehicleRegistrations(@Valid @RequestBody @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Šalinamų transporto priemonių kriterijai",
+            required = true,
+            content = @Content(schema = @Schema(implementation = VehicleBulkDeleteRequest.class)))
+                                                                VehicleBulkDeleteRequest deleteRequest) {
+        return vehicleBulkService.deleteVehicles(deleteRequest);
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Eksportuoti visas transporto priemones",
+            description = "Srautu grąžina visas galiojančias transporto priemones NDJSON arba CSV formatu, neskaičiuojant puslapių",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Transporto priemonių eksportas",
+                            content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+                    @ApiResponse(responseCode = "400", description = "Nepalaikomas eksporto formatas"),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public ResponseEntity<StreamingResponseBody> exportVehicleRegistrations(
+            @RequestParam(defaultValue = "ndjson") @Parameter(description = "Eksporto formatas: ndjson arba csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"vehicles." + exportFormat.getFileExtension() + "\"")
+                .body(outputStream -> vehicleExportService.exportVehicleRegistrations(exportFormat, outputStream));
+    }
+}
@@ -0,0 +1,75 @@
+package lt.transport.registration.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lt.transport.registration.dto.VehicleChangeFeedResponse;
+import lt.transport.registration.service.VehicleChangeService;
+import lt.transport.registration.stream.VehicleChangeFilter;
+import lt.transport.registration.stream.VehicleChangeStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/vehicles/changes")
+@Tag(name = "Transporto priemonių pakeitimai", description = "Transporto priemonių registro pakeitimų srauto API")
+public class VehicleChangeController {
+
+    private final VehicleChangeService vehicleChangeService;
+
+    private final VehicleChangeStream vehicleChangeStream;
+
+    @Autowired
+    public VehicleChangeController(VehicleChangeService vehicleChangeService, VehicleChangeStream vehicleChangeStream) {
+        this.vehicleChangeService = vehicleChangeService;
+        this.vehicleChangeStream = vehicleChangeStream;
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Gauti transporto priemonių pakeitimus",
+            description = "Gauti transporto priemonių registravimo, savininko keitimo ir pašalinimo įvykius, atliktus po nurodyto žymeklio, jų atlikimo eilės tvarka. "
+                    + "Be žymeklio grąžinami pakeitimai nuo pradžios",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Sėkmingai gauti transporto priemonių pakeitimai",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleChangeFeedResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Neteisingas žymeklis"),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public VehicleChangeFeedResponse getVehicleChanges(
+            @RequestParam(value = "since", required = false) @Parameter(description = "Žymeklis (nextToken) iš ankstesnio atsakymo") String since,
+            @RequestParam(value = "size", defaultValue = "100") @Parameter(description = "Didžiausias grąžinamų pakeitimų skaičius") int size) {
+        return vehicleChangeService.findChanges(since, size);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stebėti transporto priemonių pakeitimus realiu laiku",
+            description = "Server-Sent Events srautas, kuriuo siunčiami transporto priemonių registravimo, savininko keitimo ir pašalinimo įvykiai (vehicle-change), "
+                    + "kai tik jie įrašomi. Įvykius galima filtruoti pagal transporto priemonės ID, valstybinį numerį arba dabartinio savininko kodą. "
+                    + "Jei klientas nespėja priimti įvykių, jie praleidžiami (dropped įvykis nurodo kiek) arba ryšys nutraukiamas; "
+                    + "prisijungus iš naujo su Last-Event-ID antrašte praleisti įvykiai atsiunčiami iš karto",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Sėkmingai prisijungta prie pakeitimų srauto",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public SseEmitter streamVehicleChanges(
+            @RequestParam(value = "vehicleId", required = false) @Parameter(description = "Transporto priemonės ID", example = "1") Long vehicleId,
+            @RequestParam(value = "plateNo", required = false) @Parameter(description = "Transporto priemonės valstybinis numeris", example = "ABC123") String plateNo,
+            @RequestParam(value = "ownerCode", required = false) @Parameter(description = "Savininko asmens arba įmonės kodas", example = "39601010000") String ownerCode,
+            @RequestHeader(value = "Last-Event-ID", required = false) @Parameter(description = "Paskutinio gauto įvykio ID, nuo kurio tęsti srautą") Long lastEventId) {
+        return vehicleChangeStream.subscribe(VehicleChangeFilter.of(vehicleId, plateNo, ownerCode), lastEventId);
+    }
+}
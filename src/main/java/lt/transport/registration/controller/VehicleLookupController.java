@@ -0,0 +1,49 @@
+package lt.transport.registration.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lt.transport.registration.dto.VehicleLookupRequest;
+import lt.transport.registration.dto.VehicleLookupResponse;
+import lt.transport.registration.service.VehicleLookupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/vehicles")
+@Tag(name = "Transporto priemonių paieška", description = "Transporto priemonių paieškos pagal ID ir valstybinių numerių sąrašus API")
+public class VehicleLookupController {
+
+    private final VehicleLookupService vehicleLookupService;
+
+    @Autowired
+    public VehicleLookupController(VehicleLookupService vehicleLookupService) {
+        this.vehicleLookupService = vehicleLookupService;
+    }
+
+    @PostMapping("/lookup")
+    @Operation(
+            summary = "Gauti daug transporto priemonių pagal ID ir valstybinius numerius",
+            description = "Vienu kvietimu grąžina iki " + VehicleLookupRequest.MAX_KEYS + " transporto priemonių pagal ID ir (arba) valstybinius numerius. "
+                    + "Nerasti ID ir valstybiniai numeriai grąžinami atskiruose sąrašuose",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Rastos transporto priemonės ir nerasti raktai",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleLookupResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Nenurodytas nei vienas ID ar valstybinis numeris, arba jų per daug"),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public VehicleLookupResponse lookupVehicleRegistrations(@Valid @RequestBody @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Ieškomų transporto priemonių ID ir valstybiniai numeriai",
+            required = true,
+            content = @Content(schema = @Schema(implementation = VehicleLookupRequest.class)))
+                                                            VehicleLookupRequest lookupRequest) {
+        return vehicleLookupService.lookupVehicles(lookupRequest);
+    }
+}
@@ -7,22 +7,33 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import lt.transport.registration.cache.VehicleRegistryVersion;
 import lt.transport.registration.dto.TransferOwnerRequest;
 import lt.transport.registration.dto.VehicleActionResponse;
+import lt.transport.registration.dto.VehicleOwnershipHistoryPageResponse;
 import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
 import lt.transport.registration.dto.VehicleRegistrationPageResponse;
 import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.dto.VehicleSearchFilter;
 import lt.transport.registration.mapper.VehicleRegistrationMapper;
 import lt.transport.registration.service.VehicleRegistrationService;
+import lt.transport.registration.util.ETagUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
 
 import static lt.transport.registration.constants.ResponseMessages.VEHICLE_DELETED;
 import static lt.transport.registration.constants.ResponseMessages.VEHICLE_OWNER_TRANSFERRED;
@@ -35,9 +46,12 @@ public class VehicleRegistrationController {
 
     private final VehicleRegistrationService vehicleRegistrationService;
 
+    private final VehicleRegistryVersion vehicleRegistryVersion;
+
     @Autowired
-    public VehicleRegistrationController(VehicleRegistrationService vehicleRegistrationService) {
+    public VehicleRegistrationController(VehicleRegistrationService vehicleRegistrationService, VehicleRegistryVersion vehicleRegistryVersion) {
         this.vehicleRegistrationService = vehicleRegistrationService;
+        this.vehicleRegistryVersion = vehicleRegistryVersion;
     }
 
     @PostMapping("/register")
@@ -70,6 +84,10 @@ public class VehicleRegistrationController {
                             description = "Sėkmingas atsakymas su transporto priemonės duomenimis",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleRegistrationDetailsResponse.class))
                     ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "Transporto priemonės duomenys nepasikeitė nuo If-None-Match arba If-Modified-Since antraštėje nurodytos versijos"
+                    ),
                     @ApiResponse(
                             responseCode = "404",
                             description = "Transporto priemonė nerasta pagal pateiktą ID",
@@ -77,27 +95,107 @@ public class VehicleRegistrationController {
                     )
             }
     )
-    public VehicleRegistrationDetailsResponse getVehicleRegistrationById(
+    public ResponseEntity<VehicleRegistrationDetailsResponse> getVehicleRegistrationById(
             @PathVariable @Schema(description = "Transporto priemonės ID", example = "1") Long vehicleId) {
-        return vehicleRegistrationService.findVehicleRegistrationById(vehicleId);
+        return detailsResponse(vehicleRegistrationService.findVehicleRegistrationById(vehicleId));
+    }
+
+    @GetMapping("/by-plate/{plateNo}")
+    @Operation(
+            summary = "Gauti transporto priemonės informaciją pagal valstybinį numerį",
+            description = "Ši funkcija grąžina transporto priemonės registracijos informaciją pagal pateiktą valstybinį numerį (didžiosios ir mažosios raidės, tarpai ir brūkšneliai neturi įtakos). Jei transporto priemonė nerasta, grąžinamas klaidos pranešimas.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Sėkmingas atsakymas su transporto priemonės duomenimis",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleRegistrationDetailsResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "Transporto priemonės duomenys nepasikeitė nuo If-None-Match arba If-Modified-Since antraštėje nurodytos versijos"
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Transporto priemonė nerasta pagal pateiktą valstybinį numerį",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))
+                    )
+            }
+    )
+    public ResponseEntity<VehicleRegistrationDetailsResponse> getVehicleRegistrationByPlateNo(
+            @PathVariable @Schema(description = "Transporto priemonės valstybinis numeris", example = "ABC123") String plateNo) {
+        return detailsResponse(vehicleRegistrationService.findVehicleRegistrationByPlateNo(plateNo));
     }
 
     @GetMapping
     @Operation(
             summary = "Gauti visas transporto priemones",
-            description = "Gauti visų transporto priemonių registracijų sąrašą su puslapiavimu ir rūšiavimu",
+            description = "Gauti visų transporto priemonių registracijų sąrašą su puslapiavimu ir rūšiavimu. Nurodžius žymeklį, puslapis gaunamas pagal jį, todėl gilūs puslapiai gaunami taip pat greitai kaip ir pirmasis. "
+                    + "Sąrašą galima filtruoti pagal gamintoją, modelį, pagaminimo metų intervalą, savininko pavardės pradžią ir tai, ar savininkas yra įmonė; naudojant žymeklį, filtrus reikia pateikti ir kitiems puslapiams",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Sėkmingai gautas sąrašas",
                             content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "304", description = "Registre nuo If-None-Match arba If-Modified-Since antraštėje nurodytos versijos niekas nepasikeitė"),
+                    @ApiResponse(responseCode = "400", description = "Neteisingas žymeklis"),
                     @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
             }
     )
-    public VehicleRegistrationPageResponse getAllVehicleRegistrations(
+    public ResponseEntity<VehicleRegistrationPageResponse> getAllVehicleRegistrations(
             @RequestParam(value = "page", defaultValue = "0") @Parameter(description = "Puslapio numeris (pradedant nuo 0)") int page,
             @RequestParam(value = "size", defaultValue = "10") @Parameter(description = "Elementų skaičius puslapyje") int size,
-            @RequestParam(defaultValue = "id") @Parameter(description = "Rūšiavimo laukas") String sortBy,
-            @RequestParam(defaultValue = "ASC") @Parameter(description = "Rūšiavimo tvarka (ASC arba DESC)") String sortDirection) {
-        return vehicleRegistrationService.findAllVehicleRegistrations(page, size, sortBy, sortDirection);
+            @RequestParam(defaultValue = "id") @Parameter(description = "Rūšiavimo laukas; nextCursor grąžinamas tik rūšiuojant pagal id, plateNo, make, model, year, ownerName, ownerSurname arba ownerCode") String sortBy,
+            @RequestParam(defaultValue = "ASC") @Parameter(description = "Rūšiavimo tvarka (ASC arba DESC)") String sortDirection,
+            @RequestParam(value = "after", required = false) @Parameter(description = "Žymeklis (nextCursor) iš ankstesnio atsakymo; nurodžius, rūšiavimas imamas iš žymeklio, o puslapio numeris ignoruojamas") String after,
+            @RequestParam(value = "includeTotal", defaultValue = "true") @Parameter(description = "Ar skaičiuoti bendrą įrašų ir puslapių skaičių") boolean includeTotal,
+            @RequestParam(value = "make", required = false) @Parameter(description = "Gamintojas (tikslus atitikimas)") String make,
+            @RequestParam(value = "model", required = false) @Parameter(description = "Modelis (tikslus atitikimas)") String model,
+            @RequestParam(value = "yearFrom", required = false) @Parameter(description = "Pagaminimo metai nuo (imtinai)") Integer yearFrom,
+            @RequestParam(value = "yearTo", required = false) @Parameter(description = "Pagaminimo metai iki (imtinai)") Integer yearTo,
+            @RequestParam(value = "ownerSurname", required = false) @Parameter(description = "Savininko pavardės pradžia") String ownerSurname,
+            @RequestParam(value = "hasLegalOwner", required = false) @Parameter(description = "Ar savininkas yra įmonė (true) ar fizinis asmuo (false)") Boolean hasLegalOwner,
+            WebRequest webRequest) {
+        VehicleRegistryVersion.Snapshot registryVersion = vehicleRegistryVersion.current();
+        String eTag = vehicleRegistryVersion.toETag(registryVersion);
+        if (webRequest.checkNotModified(eTag, registryVersion.lastModified().toEpochMilli())) {
+            return null;
+        }
+
+        VehicleSearchFilter filter = new VehicleSearchFilter(make, model, yearFrom, yearTo, ownerSurname, hasLegalOwner);
+        VehicleRegistrationPageResponse vehicleRegistrations;
+        if (!filter.isEmpty()) {
+            vehicleRegistrations = vehicleRegistrationService.searchVehicleRegistrations(filter, page, size, sortBy, sortDirection, after, includeTotal);
+        } else if (after != null && !after.isBlank()) {
+            vehicleRegistrations = vehicleRegistrationService.scrollVehicleRegistrations(after, size, includeTotal);
+        } else {
+            vehicleRegistrations = vehicleRegistrationService.findAllVehicleRegistrations(page, size, sortBy, sortDirection, includeTotal);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .lastModified(registryVersion.lastModified())
+                .body(vehicleRegistrations);
+    }
+
+    @GetMapping("/{vehicleId}/ownership-history")
+    @Operation(
+            summary = "Gauti transporto priemonės savininkystės istoriją",
+            description = "Gauti buvusius transporto priemonės savininkus nuo naujausio perleidimo. Kitas puslapis gaunamas pagal ankstesnio atsakymo žymeklį",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Sėkmingai gauta savininkystės istorija",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleOwnershipHistoryPageResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Neteisingas puslapio žymeklis"),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Transporto priemonė nerasta pagal pateiktą ID",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))
+                    ),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public VehicleOwnershipHistoryPageResponse getOwnershipHistory(
+            @PathVariable @Schema(description = "Unikalus transporto priemonės ID", example = "1") Long vehicleId,
+            @RequestParam(value = "size", defaultValue = "10") @Parameter(description = "Elementų skaičius puslapyje") int size,
+            @RequestParam(value = "after", required = false) @Parameter(description = "Žymeklis (nextCursor) iš ankstesnio atsakymo") String after) {
+        return vehicleRegistrationService.findOwnershipHistory(vehicleId, after, size);
     }
 
     @PostMapping("/{vehicleId}/transfer-owner")
@@ -120,15 +218,29 @@ public class VehicleRegistrationController {
                             description = "Transporto priemonė nerasta pagal pateiktą ID arba esamas savininkas nerastas",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))
                     ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "Transporto priemonė tuo pačiu metu buvo pakeista kitos užklausos",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "412",
+                            description = "If-Match antraštėje nurodyta versija nesutampa su dabartine transporto priemonės versija",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))
+                    ),
                     @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
             }
     )
-    public VehicleActionResponse transferOwnerOfVehicleRegistration(
+    public ResponseEntity<VehicleActionResponse> transferOwnerOfVehicleRegistration(
             @PathVariable("vehicleId") @Schema(description = "Transporto priemonės ID", example = "1") Long vehicleId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "Transporto priemonės versija (ETag), kurią tikimasi pakeisti") String ifMatch,
             @Valid @RequestBody @Schema(description = "Naujo savininko duomenys", implementation = TransferOwnerRequest.class) TransferOwnerRequest transferOwnerRequest) {
         var updatedVehicleRegistration = vehicleRegistrationService.transferOwnerOfVehicleRegistration(vehicleId, transferOwnerRequest.newOwnerName(),
-                transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode());
-        return VehicleRegistrationMapper.INSTANCE.toVehicleActionResponse(VEHICLE_OWNER_TRANSFERRED, updatedVehicleRegistration);
+                transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(),
+                ETagUtil.toVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.toETag(updatedVehicleRegistration.getVersion()))
+                .body(VehicleRegistrationMapper.INSTANCE.toVehicleActionResponse(VEHICLE_OWNER_TRANSFERRED, updatedVehicleRegistration));
     }
 
     @DeleteMapping("/{vehicleId}")
@@ -146,12 +258,33 @@ public class VehicleRegistrationController {
                             description = "Transporto priemonė nerasta pagal pateiktą ID",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))
                     ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "Transporto priemonė tuo pačiu metu buvo pakeista kitos užklausos",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "412",
+                            description = "If-Match antraštėje nurodyta versija nesutampa su dabartine transporto priemonės versija",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))
+                    ),
                     @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
             }
     )
     public VehicleActionResponse deleteVehicleRegistration(
-            @PathVariable("vehicleId") @Schema(description = "Transporto priemonės ID", example = "1") Long vehicleId) {
-        var vehicleRegistration = vehicleRegistrationService.deleteVehicleRegistration(vehicleId);
-        return VehicleRegistrationMapper.INSTANCE.toVehicleActionResponse(VEHICLE_DELETED, vehicleRegistration);
+            @PathVariable("vehicleId") @Schema(description = "Transporto priemonės ID", example = "1") Long vehicleId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "Transporto priemonės versija (ETag), kurią tikimasi pašalinti") String ifMatch) {
+        vehicleRegistrationService.deleteVehicleRegistration(vehicleId, ETagUtil.toVersion(ifMatch));
+        return new VehicleActionResponse(VEHICLE_DELETED, vehicleId);
+    }
+
+    private ResponseEntity<VehicleRegistrationDetailsResponse> detailsResponse(VehicleRegistrationDetailsResponse vehicleRegistration) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(ETagUtil.toETag(vehicleRegistration.version()));
+        if (vehicleRegistration.lastModifiedAt() != null) {
+            response.lastModified(vehicleRegistration.lastModifiedAt().atZone(ZoneId.systemDefault()));
+        }
+        return response.body(vehicleRegistration);
     }
 }
@@ -0,0 +1,41 @@
+package lt.transport.registration.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lt.transport.registration.dto.VehicleStatisticsResponse;
+import lt.transport.registration.stats.VehicleStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/vehicles/stats")
+@Tag(name = "Transporto priemonių statistika", description = "Transporto priemonių registro suvestinių API")
+public class VehicleStatisticsController {
+
+    private final VehicleStatistics vehicleStatistics;
+
+    @Autowired
+    public VehicleStatisticsController(VehicleStatistics vehicleStatistics) {
+        this.vehicleStatistics = vehicleStatistics;
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Gauti transporto priemonių statistiką",
+            description = "Gauti galiojančių transporto priemonių skaičių pagal gamintoją, modelį, pagaminimo metus ir savininko tipą. "
+                    + "Statistika skaičiuojama atmintyje ir periodiškai suderinama su duomenų baze",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Sėkmingai gauta transporto priemonių statistika",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleStatisticsResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "Vidinė serverio klaida")
+            }
+    )
+    public VehicleStatisticsResponse getVehicleStatistics() {
+        return vehicleStatistics.snapshot();
+    }
+}
@@ -0,0 +1,32 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Archyvuotos (pašalintos) transporto priemonės duomenys")
+public record ArchivedVehicleRegistrationResponse(
+        @Schema(description = "Transporto priemonės ID, kurį ji turėjo prieš pašalinimą", example = "1")
+        Long vehicleId,
+        @Schema(description = "Transporto priemonės valstybinis numeris", example = "ABC123")
+        String plateNo,
+        @Schema(description = "Transporto priemonės gamintojas", example = "Toyota")
+        String make,
+        @Schema(description = "Transporto priemonės modelis", example = "Corolla")
+        String model,
+        @Schema(description = "Transporto priemonės pagaminimo metai", example = "2020")
+        Integer year,
+        @Schema(description = "Paskutinio savininko vardas", example = "Jonas")
+        String ownerName,
+        @Schema(description = "Paskutinio savininko pavardė", example = "Petrauskas")
+        String ownerSurname,
+        @Schema(description = "Paskutinio savininko įmonės pavadinimas", example = "UAB ABC")
+        String ownerLegalName,
+        @Schema(description = "Paskutinio savininko asmens arba įmonės kodas", example = "39601010000")
+        String ownerCode,
+        @Schema(description = "Archyvavimo data ir laikas", example = "2025-01-15T10:15:30")
+        LocalDateTime archivedAt,
+        @Schema(description = "Buvę savininkai, naujausi pirmi")
+        List<VehicleOwnershipHistoryResponse> ownershipHistory) {
+}
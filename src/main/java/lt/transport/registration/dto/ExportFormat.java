@@ -0,0 +1,39 @@
+package lt.transport.registration.dto;
+
+import lt.transport.registration.exception.UnsupportedExportFormatException;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static lt.transport.registration.constants.ResponseMessages.UNSUPPORTED_EXPORT_FORMAT;
+
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+
+    private final String fileExtension;
+
+    ExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static ExportFormat from(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new UnsupportedExportFormatException(String.format(UNSUPPORTED_EXPORT_FORMAT, format));
+        }
+    }
+}
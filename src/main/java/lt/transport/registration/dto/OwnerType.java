@@ -0,0 +1,10 @@
+package lt.transport.registration.dto;
+
+public enum OwnerType {
+    NATURAL_PERSON,
+    LEGAL_ENTITY;
+
+    public static OwnerType of(String ownerLegalName) {
+        return ownerLegalName != null ? LEGAL_ENTITY : NATURAL_PERSON;
+    }
+}
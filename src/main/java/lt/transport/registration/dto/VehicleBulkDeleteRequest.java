@@ -0,0 +1,26 @@
+package lt.transport.registration.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+
+import java.util.List;
+
+import static lt.transport.registration.constants.ResponseMessages.BULK_DELETE_CRITERIA_REQUIRED;
+
+@Schema(description = "Transporto priemonių masinio pašalinimo kriterijai: ID sąrašas arba savininko kodas")
+public record VehicleBulkDeleteRequest(
+        @Schema(description = "Šalinamų transporto priemonių ID sąrašas", example = "[1, 2, 3]")
+        List<Long> vehicleIds,
+        @Schema(description = "Savininko asmens arba įmonės kodas, kurio visos transporto priemonės šalinamos", example = "39601010000")
+        String ownerCode) {
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = BULK_DELETE_CRITERIA_REQUIRED)
+    public boolean isCriteriaValid() {
+        boolean hasVehicleIds = vehicleIds != null && !vehicleIds.isEmpty();
+        boolean hasOwnerCode = ownerCode != null && !ownerCode.isBlank();
+        return hasVehicleIds != hasOwnerCode;
+    }
+}
@@ -0,0 +1,9 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Transporto priemonių masinio pašalinimo atsakymas")
+public record VehicleBulkDeleteResponse(
+        @Schema(description = "Pašalintų transporto priemonių skaičius", example = "2")
+        int deletedCount) {
+}
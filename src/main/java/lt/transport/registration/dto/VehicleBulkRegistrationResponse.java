@@ -0,0 +1,15 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Transporto priemonių masinio registravimo atsakymas")
+public record VehicleBulkRegistrationResponse(
+        @Schema(description = "Užregistruotų transporto priemonių skaičius", example = "2")
+        int registeredCount,
+        @Schema(description = "Atmestų transporto priemonių skaičius", example = "0")
+        int rejectedCount,
+        @Schema(description = "Kiekvieno įrašo rezultatas užklausos tvarka")
+        List<VehicleBulkRegistrationResult> results) {
+}
@@ -0,0 +1,19 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_REGISTERED_SUCCESSFULLY;
+
+@Schema(description = "Vienos transporto priemonės masinio registravimo rezultatas")
+public record VehicleBulkRegistrationResult(
+        @Schema(description = "Įrašo eilės numeris užklausoje (pradedant nuo 0)", example = "0")
+        int index,
+        @Schema(description = "Transporto priemonės valstybinis numeris", example = "ABC123")
+        String plateNo,
+        @Schema(description = "Ar transporto priemonė užregistruota", example = "true")
+        boolean registered,
+        @Schema(description = "Transporto priemonės ID (jei užregistruota)", example = "1")
+        Long vehicleId,
+        @Schema(description = "Rezultato žinutė", example = VEHICLE_REGISTERED_SUCCESSFULLY)
+        String message) {
+}
@@ -0,0 +1,28 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import static lt.transport.registration.constants.ResponseMessages.OWNER_CODE_IS_REQUIRED;
+import static lt.transport.registration.constants.ResponseMessages.OWNER_NAME_IS_REQUIRED;
+import static lt.transport.registration.constants.ResponseMessages.OWNER_SURNAME_IS_REQUIRED;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_ID_IS_REQUIRED;
+
+@Schema(description = "Vienos transporto priemonės savininkystės perėjimo duomenys masinėje užklausoje")
+public record VehicleBulkTransferOwnerRequest(
+        @NotNull(message = VEHICLE_ID_IS_REQUIRED)
+        @Schema(description = "Unikalus transporto priemonės ID", example = "1")
+        Long vehicleId,
+        @NotBlank(message = OWNER_NAME_IS_REQUIRED)
+        @Schema(description = "Transporto priemonės naujo savininko vardas", example = "Petras")
+        String newOwnerName,
+        @NotBlank(message = OWNER_SURNAME_IS_REQUIRED)
+        @Schema(description = "Transporto priemonės naujo savininko pavardė", example = "Petrauskas")
+        String newOwnerSurname,
+        @Schema(description = "Transporto priemonės naujo savininko įmonės pavadinimas", example = "UAB Petras")
+        String newOwnerLegalName,
+        @NotBlank(message = OWNER_CODE_IS_REQUIRED)
+        @Schema(description = "Transporto priemonės naujo savininko asmens arba įmonės kodas ", example = "39601010000")
+        String newOwnerCode) {
+}
@@ -0,0 +1,15 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Transporto priemonių masinio savininkystės perleidimo atsakymas")
+public record VehicleBulkTransferOwnerResponse(
+        @Schema(description = "Perleistų transporto priemonių skaičius", example = "2")
+        int transferredCount,
+        @Schema(description = "Atmestų įrašų skaičius", example = "0")
+        int rejectedCount,
+        @Schema(description = "Kiekvieno įrašo rezultatas užklausos tvarka")
+        List<VehicleBulkTransferOwnerResult> results) {
+}
@@ -0,0 +1,17 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_OWNER_TRANSFERRED;
+
+@Schema(description = "Vienos transporto priemonės masinio savininkystės perleidimo rezultatas")
+public record VehicleBulkTransferOwnerResult(
+        @Schema(description = "Įrašo eilės numeris užklausoje (pradedant nuo 0)", example = "0")
+        int index,
+        @Schema(description = "Transporto priemonės ID", example = "1")
+        Long vehicleId,
+        @Schema(description = "Ar savininkystė perleista", example = "true")
+        boolean transferred,
+        @Schema(description = "Rezultato žinutė", example = VEHICLE_OWNER_TRANSFERRED)
+        String message) {
+}
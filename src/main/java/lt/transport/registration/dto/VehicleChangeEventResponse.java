@@ -0,0 +1,35 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Transporto priemonės pakeitimo įvykis su transporto priemonės duomenimis po pakeitimo")
+public record VehicleChangeEventResponse(
+        @Schema(description = "Didėjantis pakeitimo eilės numeris", example = "1")
+        Long changeId,
+        @Schema(description = "Transporto priemonės ID", example = "1")
+        Long vehicleId,
+        @Schema(description = "Pakeitimo tipas", example = "REGISTERED")
+        VehicleChangeType changeType,
+        @Schema(description = "Transporto priemonės valstybinis numeris", example = "abc123")
+        String plateNo,
+        @Schema(description = "Transporto priemonės gamintojas", example = "Toyota")
+        String make,
+        @Schema(description = "Transporto priemonės modelis", example = "Corolla")
+        String model,
+        @Schema(description = "Transporto priemonės pagaminimo metai", example = "2020")
+        Integer year,
+        @Schema(description = "Savininko vardas", example = "Jonas")
+        String ownerName,
+        @Schema(description = "Savininko pavardė", example = "Petrauskas")
+        String ownerSurname,
+        @Schema(description = "Savininko įmonės pavadinimas", example = "UAB ABC")
+        String ownerLegalName,
+        @Schema(description = "Savininko asmens arba įmonės kodas", example = "39601010000")
+        String ownerCode,
+        @Schema(description = "Transporto priemonės įrašo versija po pakeitimo", example = "0")
+        Long version,
+        @Schema(description = "Pakeitimo data ir laikas", example = "2025-01-15T10:15:30")
+        LocalDateTime changedAt) {
+}
@@ -0,0 +1,17 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Transporto priemonių pakeitimų srauto atsakymas")
+public record VehicleChangeFeedResponse(
+        @Schema(description = "Pakeitimai jų atlikimo eilės tvarka")
+        List<VehicleChangeEventResponse> changes,
+        @Schema(description = "Didžiausias grąžinamų pakeitimų skaičius")
+        int pageSize,
+        @Schema(description = "Žymeklis, kurį reikia pateikti kitoje užklausoje (since), norint gauti vėlesnius pakeitimus")
+        String nextToken,
+        @Schema(description = "Ar yra daugiau jau matomų pakeitimų, kuriuos galima gauti iš karto")
+        boolean hasMore) {
+}
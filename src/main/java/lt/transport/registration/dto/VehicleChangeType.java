@@ -0,0 +1,7 @@
+package lt.transport.registration.dto;
+
+public enum VehicleChangeType {
+    REGISTERED,
+    OWNER_TRANSFERRED,
+    DELETED
+}
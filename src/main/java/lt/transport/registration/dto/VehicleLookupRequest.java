@@ -0,0 +1,38 @@
+package lt.transport.registration.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+
+import java.util.List;
+
+import static lt.transport.registration.constants.ResponseMessages.LOOKUP_CRITERIA_REQUIRED;
+import static lt.transport.registration.constants.ResponseMessages.LOOKUP_TOO_MANY_KEYS;
+
+@Schema(description = "Ieškomų transporto priemonių ID ir valstybinių numerių sąrašai")
+public record VehicleLookupRequest(
+        @Schema(description = "Ieškomų transporto priemonių ID sąrašas", example = "[1, 2, 3]")
+        List<Long> vehicleIds,
+        @Schema(description = "Ieškomų transporto priemonių valstybinių numerių sąrašas", example = "[\"ABC123\", \"XYZ789\"]")
+        List<String> plateNos) {
+
+    public static final int MAX_KEYS = 1000;
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = LOOKUP_CRITERIA_REQUIRED)
+    public boolean isCriteriaValid() {
+        return keyCount() > 0;
+    }
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = LOOKUP_TOO_MANY_KEYS)
+    public boolean isWithinLimit() {
+        return keyCount() <= MAX_KEYS;
+    }
+
+    private int keyCount() {
+        return (vehicleIds == null ? 0 : vehicleIds.size()) + (plateNos == null ? 0 : plateNos.size());
+    }
+}
@@ -0,0 +1,15 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Transporto priemonių paieškos pagal ID ir valstybinius numerius atsakymas")
+public record VehicleLookupResponse(
+        @Schema(description = "Rastos transporto priemonės, kiekviena po vieną kartą")
+        List<VehicleRegistrationDetailsResponse> vehicles,
+        @Schema(description = "ID, pagal kuriuos transporto priemonės nerastos", example = "[3]")
+        List<Long> notFoundVehicleIds,
+        @Schema(description = "Valstybiniai numeriai, pagal kuriuos transporto priemonės nerastos", example = "[\"XYZ789\"]")
+        List<String> notFoundPlateNos) {
+}
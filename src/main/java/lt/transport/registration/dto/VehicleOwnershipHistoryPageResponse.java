@@ -0,0 +1,15 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Transporto priemonės savininkystės istorijos puslapio atsakymas")
+public record VehicleOwnershipHistoryPageResponse(
+        @Schema(description = "Buvę savininkai, naujausi pirmi")
+        List<VehicleOwnershipHistoryResponse> content,
+        @Schema(description = "Puslapio dydis (kiek įrašų rodoma viename puslapyje)")
+        int pageSize,
+        @Schema(description = "Žymeklis kitam puslapiui gauti (nepateikiamas, jei tai paskutinis puslapis)")
+        String nextCursor) {
+}
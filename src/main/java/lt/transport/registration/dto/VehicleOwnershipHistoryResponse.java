@@ -0,0 +1,21 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Buvusio transporto priemonės savininko duomenys")
+public record VehicleOwnershipHistoryResponse(
+        @Schema(description = "Unikalus savininkystės istorijos įrašo ID", example = "1")
+        Long historyId,
+        @Schema(description = "Buvusio savininko vardas", example = "Jonas")
+        String ownerName,
+        @Schema(description = "Buvusio savininko pavardė", example = "Petrauskas")
+        String ownerSurname,
+        @Schema(description = "Buvusio savininko įmonės pavadinimas", example = "UAB ABC")
+        String ownerLegalName,
+        @Schema(description = "Buvusio savininko asmens arba įmonės kodas", example = "39601010000")
+        String ownerCode,
+        @Schema(description = "Savininkystės perleidimo data ir laikas", example = "2025-01-15T10:15:30")
+        LocalDateTime transferDate) {
+}
@@ -2,6 +2,8 @@ package lt.transport.registration.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.time.LocalDateTime;
+
 @Schema(description = "Transporto priemonės registravimo atsakymo duomenys")
 public record VehicleRegistrationDetailsResponse(
         @Schema(description = "Unikalus transporto priemonės ID", example = "1")
@@ -21,5 +23,9 @@ public record VehicleRegistrationDetailsResponse(
         @Schema(description = "Transporto priemonės savininko įmonės pavadinimas", example = "UAB Petras")
         String ownerLegalName,
         @Schema(description = "Transporto priemonės savininko asmens arba įmonės kodas ", example = "39601010000")
-        String ownerCode) {
+        String ownerCode,
+        @Schema(description = "Transporto priemonės įrašo versija, grąžinama ETag antraštėje ir naudojama If-Match antraštėje", example = "0")
+        Long version,
+        @Schema(description = "Paskutinio transporto priemonės įrašo pakeitimo laikas, grąžinamas Last-Modified antraštėje", example = "2025-01-15T10:15:30")
+        LocalDateTime lastModifiedAt) {
 }
@@ -8,12 +8,14 @@ import java.util.List;
 public record VehicleRegistrationPageResponse(
         @Schema(description = "Transporto priemonių registracijų sąrašas")
         List<VehicleRegistrationDetailsResponse> content,
-        @Schema(description = "Dabartinis puslapio numeris")
-        int currentPage,
+        @Schema(description = "Dabartinis puslapio numeris (nepateikiamas, kai puslapis gaunamas pagal žymeklį)")
+        Integer currentPage,
         @Schema(description = "Puslapio dydis (kiek įrašų rodoma viename puslapyje)")
         int pageSize,
-        @Schema(description = "Iš viso puslapių skaičius")
-        int totalPages,
-        @Schema(description = "Iš viso įrašų skaičius")
-        long totalElements) {
+        @Schema(description = "Iš viso puslapių skaičius (nepateikiamas, jei bendras skaičius neskaičiuojamas)")
+        Integer totalPages,
+        @Schema(description = "Iš viso įrašų skaičius (nepateikiamas, jei bendras skaičius neskaičiuojamas)")
+        Long totalElements,
+        @Schema(description = "Žymeklis kitam puslapiui gauti (nepateikiamas, jei tai paskutinis puslapis)")
+        String nextCursor) {
 }
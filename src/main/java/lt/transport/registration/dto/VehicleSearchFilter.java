@@ -0,0 +1,19 @@
+package lt.transport.registration.dto;
+
+public record VehicleSearchFilter(
+        String make,
+        String model,
+        Integer yearFrom,
+        Integer yearTo,
+        String ownerSurnamePrefix,
+        Boolean hasLegalOwner) {
+
+    public boolean isEmpty() {
+        return isBlank(make) && isBlank(model) && yearFrom == null && yearTo == null
+                && isBlank(ownerSurnamePrefix) && hasLegalOwner == null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
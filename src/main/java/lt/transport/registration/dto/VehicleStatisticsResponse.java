@@ -0,0 +1,22 @@
+package lt.transport.registration.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Schema(description = "Galiojančių transporto priemonių registro statistika")
+public record VehicleStatisticsResponse(
+        @Schema(description = "Galiojančių transporto priemonių skaičius", example = "3")
+        long totalVehicles,
+        @Schema(description = "Transporto priemonių skaičius pagal gamintoją", example = "{\"Toyota\": 3}")
+        Map<String, Long> byMake,
+        @Schema(description = "Transporto priemonių skaičius pagal gamintoją ir modelį", example = "{\"Toyota\": {\"Corolla\": 2, \"Yaris\": 1}}")
+        Map<String, Map<String, Long>> byModel,
+        @Schema(description = "Transporto priemonių skaičius pagal pagaminimo metus", example = "{\"2020\": 3}")
+        Map<Integer, Long> byYear,
+        @Schema(description = "Transporto priemonių skaičius pagal savininko tipą: fizinis asmuo arba įmonė", example = "{\"NATURAL_PERSON\": 2, \"LEGAL_ENTITY\": 1}")
+        Map<OwnerType, Long> byOwnerType,
+        @Schema(description = "Paskutinio statistikos suderinimo su duomenų baze laikas", example = "2025-01-15T10:15:30")
+        LocalDateTime reconciledAt) {
+}
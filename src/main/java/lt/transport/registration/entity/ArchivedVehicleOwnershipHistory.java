@@ -0,0 +1,39 @@
+package lt.transport.registration.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "vehicle_ownership_history_archive", indexes = {
+        @Index(name = "idx_history_archive_vehicle_transfer_date", columnList = "vehicle_registration_id, transferDate DESC, id DESC")
+})
+public class ArchivedVehicleOwnershipHistory {
+
+    @Id
+    private Long id;
+
+    @Column(name = "vehicle_registration_id", nullable = false)
+    private Long vehicleRegistrationId;
+
+    private String ownerName;
+    private String ownerSurname;
+    private String ownerLegalName;
+    private String ownerCode;
+
+    private LocalDateTime transferDate;
+}
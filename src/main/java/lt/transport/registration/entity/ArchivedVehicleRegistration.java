@@ -0,0 +1,62 @@
+package lt.transport.registration.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "vehicle_registration_archive", indexes = {
+        @Index(name = "idx_archive_plate_key", columnList = "plateKey, archivedAt DESC")
+})
+public class ArchivedVehicleRegistration {
+
+    @Id
+    private Long id;
+
+    @Column(name = "plate_no", nullable = false)
+    private String plateNo;
+
+    @Column(name = "plate_key", nullable = false)
+    private String plateKey;
+
+    @Column(name = "make", nullable = false)
+    private String make;
+
+    @Column(name = "model", nullable = false)
+    private String model;
+
+    @Column(name = "vehicle_year", nullable = false)
+    private Integer year;
+
+    @Column(name = "owner_name", nullable = false)
+    private String ownerName;
+
+    @Column(name = "owner_surname", nullable = false)
+    private String ownerSurname;
+
+    @Column(name = "owner_legal_name")
+    private String ownerLegalName;
+
+    @Column(name = "owner_code", nullable = false)
+    private String ownerCode;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,69 @@
+package lt.transport.registration.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lt.transport.registration.dto.VehicleChangeType;
+
+import java.time.LocalDateTime;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "vehicle_change_event")
+public class VehicleChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "vehicle_id", nullable = false)
+    private Long vehicleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private VehicleChangeType changeType;
+
+    @Column(name = "plate_no", nullable = false)
+    private String plateNo;
+
+    @Column(name = "make", nullable = false)
+    private String make;
+
+    @Column(name = "model", nullable = false)
+    private String model;
+
+    @Column(name = "vehicle_year", nullable = false)
+    private Integer year;
+
+    @Column(name = "owner_name", nullable = false)
+    private String ownerName;
+
+    @Column(name = "owner_surname", nullable = false)
+    private String ownerSurname;
+
+    @Column(name = "owner_legal_name")
+    private String ownerLegalName;
+
+    @Column(name = "owner_code", nullable = false)
+    private String ownerCode;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,9 @@ import java.time.LocalDateTime;
 @Setter
 @AllArgsConstructor
 @Entity
-@Table(name = "vehicle_ownership_history")
+@Table(name = "vehicle_ownership_history", indexes = {
+        @Index(name = "idx_history_vehicle_transfer_date", columnList = "vehicle_registration_id, transferDate DESC, id DESC")
+})
 public class VehicleOwnershipHistory {
 
     @Id
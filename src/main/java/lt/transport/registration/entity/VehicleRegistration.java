@@ -8,13 +8,19 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lt.transport.registration.util.PlateNoUtil;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,7 +31,12 @@ import java.util.List;
 @Setter
 @Entity
 @Table(name = "vehicle_registration", indexes = {
-        @Index(name = "idx_plate_no", columnList = "plateNo", unique = true)
+        @Index(name = "idx_plate_no", columnList = "plateNo"),
+        @Index(name = "idx_plate_key", columnList = "plateKey", unique = true),
+        @Index(name = "idx_owner_code", columnList = "ownerCode, isDeleted, id"),
+        @Index(name = "idx_make_model_year", columnList = "make, model, vehicle_year, isDeleted"),
+        @Index(name = "idx_year", columnList = "vehicle_year, isDeleted"),
+        @Index(name = "idx_owner_surname", columnList = "ownerSurname, isDeleted")
 })
 public class VehicleRegistration {
 
@@ -33,9 +44,12 @@ public class VehicleRegistration {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "plate_no", nullable = false, unique = true)
+    @Column(name = "plate_no", nullable = false)
     private String plateNo;
 
+    @Column(name = "plate_key")
+    private String plateKey;
+
     @Column(name = "make", nullable = false)
     private String make;
 
@@ -62,4 +76,18 @@ public class VehicleRegistration {
 
     @Column(name = "is_deleted")
     private boolean isDeleted;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "last_modified_at")
+    private LocalDateTime lastModifiedAt;
+
+    @PrePersist
+    @PreUpdate
+    void updatePlateKey() {
+        plateKey = isDeleted ? null : PlateNoUtil.toPlateKey(plateNo);
+    }
 }
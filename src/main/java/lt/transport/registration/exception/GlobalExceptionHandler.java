@@ -1,7 +1,14 @@
 package lt.transport.registration.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lt.transport.registration.util.PlateNoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -11,16 +18,27 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
 
+import static lt.transport.registration.constants.ResponseMessages.CONCURRENT_VEHICLE_MODIFICATION;
+import static lt.transport.registration.constants.ResponseMessages.PLATE_NO_ALREADY_EXISTS;
 import static lt.transport.registration.constants.ResponseMessages.REQUEST_BODY_CANNOT_BE_NULL;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(BAD_REQUEST)
     public ErrorResponse handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -29,6 +47,7 @@ public class GlobalExceptionHandler {
                 .toList();
         String message = String.join(", ", errorMessages);
         logger.error("Validation failed: {}", message, ex);
+        countError(ex, BAD_REQUEST);
         return new ErrorResponse(message, BAD_REQUEST.value());
     }
 
@@ -36,6 +55,33 @@ public class GlobalExceptionHandler {
     @ResponseStatus(BAD_REQUEST)
     public ErrorResponse handlePlateNoAlreadyExistsException(PlateNoAlreadyExistsException ex) {
         logger.error("Plate number already exists: {}", ex.getMessage(), ex);
+        countError(ex, BAD_REQUEST);
+        return new ErrorResponse(ex.getMessage(), BAD_REQUEST.value());
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        if (PlateNoUtil.isPlateKeyViolation(ex)) {
+            PlateNoAlreadyExistsException plateNoAlreadyExistsException = new PlateNoAlreadyExistsException(PLATE_NO_ALREADY_EXISTS);
+            plateNoAlreadyExistsException.initCause(ex);
+            return ResponseEntity.status(BAD_REQUEST).body(handlePlateNoAlreadyExistsException(plateNoAlreadyExistsException));
+        }
+        return ResponseEntity.status(INTERNAL_SERVER_ERROR).body(handleGenericException(ex));
+    }
+
+    @ExceptionHandler(InvalidPageCursorException.class)
+    @ResponseStatus(BAD_REQUEST)
+    public ErrorResponse handleInvalidPageCursorException(InvalidPageCursorException ex) {
+        logger.error("Invalid page cursor: {}", ex.getMessage(), ex);
+        countError(ex, BAD_REQUEST);
+        return new ErrorResponse(ex.getMessage(), BAD_REQUEST.value());
+    }
+
+    @ExceptionHandler(UnsupportedExportFormatException.class)
+    @ResponseStatus(BAD_REQUEST)
+    public ErrorResponse handleUnsupportedExportFormatException(UnsupportedExportFormatException ex) {
+        logger.error("Unsupported export format: {}", ex.getMessage(), ex);
+        countError(ex, BAD_REQUEST);
         return new ErrorResponse(ex.getMessage(), BAD_REQUEST.value());
     }
 
@@ -43,6 +89,7 @@ public class GlobalExceptionHandler {
     @ResponseStatus(BAD_REQUEST)
     public ErrorResponse handleMissingRequestBody(HttpMessageNotReadableException ex) {
         logger.error("Request body is missing or malformed: {}", ex.getMessage(), ex);
+        countError(ex, BAD_REQUEST);
         return new ErrorResponse(REQUEST_BODY_CANNOT_BE_NULL, BAD_REQUEST.value());
     }
 
@@ -50,13 +97,31 @@ public class GlobalExceptionHandler {
     @ResponseStatus(NOT_FOUND)
     public ErrorResponse handleVehicleNotFoundException(VehicleNotFoundException ex) {
         logger.error("Vehicle not found: {}", ex.getMessage(), ex);
+        countError(ex, NOT_FOUND);
         return new ErrorResponse(ex.getMessage(), NOT_FOUND.value());
     }
 
+    @ExceptionHandler(VehicleVersionMismatchException.class)
+    @ResponseStatus(PRECONDITION_FAILED)
+    public ErrorResponse handleVehicleVersionMismatchException(VehicleVersionMismatchException ex) {
+        logger.error("Vehicle version mismatch: {}", ex.getMessage(), ex);
+        countError(ex, PRECONDITION_FAILED);
+        return new ErrorResponse(ex.getMessage(), PRECONDITION_FAILED.value());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(CONFLICT)
+    public ErrorResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        logger.error("Concurrent modification detected: {}", ex.getMessage(), ex);
+        countError(ex, CONFLICT);
+        return new ErrorResponse(CONCURRENT_VEHICLE_MODIFICATION, CONFLICT.value());
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     @ResponseStatus(NOT_FOUND)
     public ErrorResponse handleIllegalStateException(IllegalStateException ex) {
         logger.error("Illegal state occurred: {}", ex.getMessage(), ex);
+        countError(ex, NOT_FOUND);
         return new ErrorResponse(ex.getMessage(), NOT_FOUND.value());
     }
 
@@ -64,6 +129,13 @@ public class GlobalExceptionHandler {
     @ResponseStatus(INTERNAL_SERVER_ERROR)
     public ErrorResponse handleGenericException(Exception ex) {
         logger.error("An unexpected error occurred: {}", ex.getMessage(), ex);
+        countError(ex, INTERNAL_SERVER_ERROR);
         return new ErrorResponse(ex.getMessage(), INTERNAL_SERVER_ERROR.value());
     }
-}
\ No newline at end of file
+
+    private void countError(Exception ex, HttpStatus status) {
+        meterRegistry.counter("vehicle.errors",
+                "exception", ex.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())).increment();
+    }
+}
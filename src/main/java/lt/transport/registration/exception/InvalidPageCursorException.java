@@ -0,0 +1,7 @@
+package lt.transport.registration.exception;
+
+public class InvalidPageCursorException extends RuntimeException {
+    public InvalidPageCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package lt.transport.registration.exception;
+
+public class PageCursorEncodingException extends RuntimeException {
+    public PageCursorEncodingException(String message) {
+        super(message);
+    }
+
+    public PageCursorEncodingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package lt.transport.registration.exception;
+
+public class UnsupportedExportFormatException extends RuntimeException {
+    public UnsupportedExportFormatException(String message) {
+        super(message);
+    }
+}
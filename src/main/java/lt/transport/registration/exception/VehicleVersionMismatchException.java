@@ -0,0 +1,7 @@
+package lt.transport.registration.exception;
+
+public class VehicleVersionMismatchException extends RuntimeException {
+    public VehicleVersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -1,13 +1,19 @@
 package lt.transport.registration.mapper;
 
+import lt.transport.registration.dto.ArchivedVehicleRegistrationResponse;
 import lt.transport.registration.dto.VehicleActionResponse;
+import lt.transport.registration.dto.VehicleOwnershipHistoryResponse;
 import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
 import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.entity.ArchivedVehicleOwnershipHistory;
+import lt.transport.registration.entity.ArchivedVehicleRegistration;
 import lt.transport.registration.entity.VehicleRegistration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
+import java.util.List;
+
 @Mapper
 public interface VehicleRegistrationMapper {
 
@@ -20,4 +26,12 @@ public interface VehicleRegistrationMapper {
 
     @Mapping(source = "vehicleRegistration.id", target = "vehicleId")
     VehicleActionResponse toVehicleActionResponse(String message, VehicleRegistration vehicleRegistration);
+
+    @Mapping(source = "archivedVehicleRegistration.id", target = "vehicleId")
+    @Mapping(source = "ownershipHistory", target = "ownershipHistory")
+    ArchivedVehicleRegistrationResponse toArchivedDto(ArchivedVehicleRegistration archivedVehicleRegistration,
+                                                      List<VehicleOwnershipHistoryResponse> ownershipHistory);
+
+    @Mapping(source = "id", target = "historyId")
+    VehicleOwnershipHistoryResponse toHistoryDto(ArchivedVehicleOwnershipHistory archivedVehicleOwnershipHistory);
 }
@@ -0,0 +1,38 @@
+package lt.transport.registration.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+public class DbStatementMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public DbStatementMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCountingInspector.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("vehicle.request.db.statements")
+                .description("Hibernate SQL statements executed per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(StatementCountingInspector.count());
+    }
+}
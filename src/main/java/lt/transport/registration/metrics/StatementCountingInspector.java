@@ -0,0 +1,22 @@
+package lt.transport.registration.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> STATEMENT_COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENT_COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        STATEMENT_COUNT.get()[0] = 0;
+    }
+
+    public static int count() {
+        return STATEMENT_COUNT.get()[0];
+    }
+}
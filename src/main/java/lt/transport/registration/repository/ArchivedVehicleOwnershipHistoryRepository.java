@@ -0,0 +1,14 @@
+package lt.transport.registration.repository;
+
+import lt.transport.registration.entity.ArchivedVehicleOwnershipHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedVehicleOwnershipHistoryRepository extends JpaRepository<ArchivedVehicleOwnershipHistory, Long> {
+
+    List<ArchivedVehicleOwnershipHistory> findByVehicleRegistrationIdInOrderByTransferDateDescIdDesc(Collection<Long> vehicleRegistrationIds);
+}
@@ -0,0 +1,13 @@
+package lt.transport.registration.repository;
+
+import lt.transport.registration.entity.ArchivedVehicleRegistration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedVehicleRegistrationRepository extends JpaRepository<ArchivedVehicleRegistration, Long> {
+
+    List<ArchivedVehicleRegistration> findByPlateKeyOrderByArchivedAtDescIdDesc(String plateKey);
+}
@@ -0,0 +1,38 @@
+package lt.transport.registration.repository;
+
+import lt.transport.registration.dto.VehicleChangeEventResponse;
+import lt.transport.registration.entity.VehicleChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface VehicleChangeEventRepository extends JpaRepository<VehicleChangeEvent, Long> {
+
+    /**
+     * Appends one change event per vehicle, copying the vehicle's current row, so it has to run in the
+     * transaction that made the change and after that change has been written.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO vehicle_change_event "
+            + "(vehicle_id, change_type, plate_no, make, model, vehicle_year, owner_name, owner_surname, owner_legal_name, owner_code, version, changed_at) "
+            + "SELECT id, :changeType, plate_no, make, model, vehicle_year, owner_name, owner_surname, owner_legal_name, owner_code, version, :changedAt "
+            + "FROM vehicle_registration WHERE id IN (:vehicleIds) ORDER BY id", nativeQuery = true)
+    int recordChanges(@Param("changeType") String changeType, @Param("changedAt") LocalDateTime changedAt,
+                      @Param("vehicleIds") Collection<Long> vehicleIds);
+
+    @Query("SELECT new lt.transport.registration.dto.VehicleChangeEventResponse(e.id, e.vehicleId, e.changeType, e.plateNo, e.make, e.model, "
+            + "e.year, e.ownerName, e.ownerSurname, e.ownerLegalName, e.ownerCode, e.version, e.changedAt) "
+            + "FROM VehicleChangeEvent e WHERE e.id > :afterId ORDER BY e.id")
+    List<VehicleChangeEventResponse> findChangesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    boolean existsByIdGreaterThan(Long id);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM VehicleChangeEvent e")
+    Long findMaxId();
+}
@@ -1,7 +1,28 @@
 package lt.transport.registration.repository;
 
+import lt.transport.registration.dto.VehicleOwnershipHistoryResponse;
 import lt.transport.registration.entity.VehicleOwnershipHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface VehicleOwnershipHistoryRepository extends JpaRepository<VehicleOwnershipHistory, Long> {
+
+    @Query("SELECT new lt.transport.registration.dto.VehicleOwnershipHistoryResponse(h.id, h.ownerName, h.ownerSurname, h.ownerLegalName, h.ownerCode, h.transferDate) "
+            + "FROM VehicleOwnershipHistory h WHERE h.vehicleRegistration.id = :vehicleId "
+            + "ORDER BY h.transferDate DESC, h.id DESC")
+    List<VehicleOwnershipHistoryResponse> findLatestByVehicleId(@Param("vehicleId") Long vehicleId, Limit limit);
+
+    @Query("SELECT new lt.transport.registration.dto.VehicleOwnershipHistoryResponse(h.id, h.ownerName, h.ownerSurname, h.ownerLegalName, h.ownerCode, h.transferDate) "
+            + "FROM VehicleOwnershipHistory h WHERE h.vehicleRegistration.id = :vehicleId "
+            + "AND (h.transferDate < :transferDate OR (h.transferDate = :transferDate AND h.id < :id)) "
+            + "ORDER BY h.transferDate DESC, h.id DESC")
+    List<VehicleOwnershipHistoryResponse> findLatestByVehicleIdBefore(@Param("vehicleId") Long vehicleId,
+                                                                      @Param("transferDate") LocalDateTime transferDate,
+                                                                      @Param("id") Long id,
+                                                                      Limit limit);
 }
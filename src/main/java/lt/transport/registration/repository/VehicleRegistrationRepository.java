@@ -1,19 +1,86 @@
 package lt.transport.registration.repository;
 
+import jakarta.persistence.QueryHint;
+import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
 import lt.transport.registration.entity.VehicleRegistration;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface VehicleRegistrationRepository extends JpaRepository<VehicleRegistration, Long> {
+public interface VehicleRegistrationRepository extends JpaRepository<VehicleRegistration, Long>, JpaSpecificationExecutor<VehicleRegistration> {
 
-    Optional<VehicleRegistration> findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(String plateNo);
+    String SELECT_DETAILS = "SELECT new lt.transport.registration.dto.VehicleRegistrationDetailsResponse(v.id, v.plateNo, v.make, v.model, v.year, "
+            + "v.ownerName, v.ownerSurname, v.ownerLegalName, v.ownerCode, v.version, v.lastModifiedAt) FROM VehicleRegistration v ";
+
+    Optional<VehicleRegistration> findVehicleRegistrationByPlateKeyAndIsDeletedFalse(String plateKey);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_DETAILS + "WHERE v.plateKey = :plateKey AND v.isDeleted = false")
+    Optional<VehicleRegistrationDetailsResponse> findDetailsByPlateKey(@Param("plateKey") String plateKey);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_DETAILS + "WHERE v.id = :id AND v.isDeleted = false")
+    Optional<VehicleRegistrationDetailsResponse> findDetailsById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_DETAILS + "WHERE v.id IN :ids AND v.isDeleted = false")
+    List<VehicleRegistrationDetailsResponse> findDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_DETAILS + "WHERE v.plateKey IN :plateKeys AND v.isDeleted = false")
+    List<VehicleRegistrationDetailsResponse> findDetailsByPlateKeyIn(@Param("plateKeys") Collection<String> plateKeys);
+
+    @Query("SELECT v.plateKey FROM VehicleRegistration v WHERE v.plateKey IN :plateKeys AND v.isDeleted = false")
+    List<String> findExistingPlateKeys(@Param("plateKeys") Collection<String> plateKeys);
 
     Page<VehicleRegistration> findVehicleRegistrationByIsDeletedFalse(Pageable pageable);
 
+    Slice<VehicleRegistration> findSliceByIsDeletedFalse(Pageable pageable);
+
+    Window<VehicleRegistration> findVehicleRegistrationByIsDeletedFalse(ScrollPosition position, Sort sort, Limit limit);
+
+    long countByIsDeletedFalse();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<VehicleRegistration> streamByIsDeletedFalseOrderByIdAsc();
+
     Optional<VehicleRegistration> findVehicleRegistrationByIdAndIsDeletedFalse(Long id);
+
+    boolean existsByIdAndIsDeletedFalse(Long id);
+
+    @Query("SELECT v.plateNo FROM VehicleRegistration v WHERE v.id = :id")
+    Optional<String> findPlateNoById(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE VehicleRegistration v SET v.isDeleted = true, v.plateKey = null, v.version = v.version + 1, v.lastModifiedAt = LOCAL DATETIME "
+            + "WHERE v.id = :id AND v.isDeleted = false AND (:expectedVersion IS NULL OR v.version = :expectedVersion)")
+    int softDeleteById(@Param("id") Long id, @Param("expectedVersion") Long expectedVersion);
+
+    @Query(SELECT_DETAILS + "WHERE v.ownerCode = :ownerCode AND v.isDeleted = false AND v.id > :afterId ORDER BY v.id")
+    List<VehicleRegistrationDetailsResponse> findByOwnerCodeAfter(@Param("ownerCode") String ownerCode,
+                                                                  @Param("afterId") Long afterId,
+                                                                  Limit limit);
 }
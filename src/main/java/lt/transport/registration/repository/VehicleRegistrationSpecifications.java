@@ -0,0 +1,65 @@
+package lt.transport.registration.repository;
+
+import lt.transport.registration.dto.VehicleSearchFilter;
+import lt.transport.registration.entity.VehicleRegistration;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class VehicleRegistrationSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private VehicleRegistrationSpecifications() {
+    }
+
+    public static Specification<VehicleRegistration> matching(VehicleSearchFilter filter) {
+        return Specification.where(isActive())
+                .and(hasMake(filter.make()))
+                .and(hasModel(filter.model()))
+                .and(yearFrom(filter.yearFrom()))
+                .and(yearTo(filter.yearTo()))
+                .and(ownerSurnameStartsWith(filter.ownerSurnamePrefix()))
+                .and(hasLegalOwner(filter.hasLegalOwner()));
+    }
+
+    public static Specification<VehicleRegistration> isActive() {
+        return (root, query, cb) -> cb.isFalse(root.get("isDeleted"));
+    }
+
+    public static Specification<VehicleRegistration> hasMake(String make) {
+        return isBlank(make) ? null : (root, query, cb) -> cb.equal(root.get("make"), make.trim());
+    }
+
+    public static Specification<VehicleRegistration> hasModel(String model) {
+        return isBlank(model) ? null : (root, query, cb) -> cb.equal(root.get("model"), model.trim());
+    }
+
+    public static Specification<VehicleRegistration> yearFrom(Integer yearFrom) {
+        return yearFrom == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("year"), yearFrom);
+    }
+
+    public static Specification<VehicleRegistration> yearTo(Integer yearTo) {
+        return yearTo == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("year"), yearTo);
+    }
+
+    public static Specification<VehicleRegistration> ownerSurnameStartsWith(String prefix) {
+        return isBlank(prefix) ? null : (root, query, cb) ->
+                cb.like(root.get("ownerSurname"), escapeLike(prefix.trim()) + "%", LIKE_ESCAPE);
+    }
+
+    public static Specification<VehicleRegistration> hasLegalOwner(Boolean hasLegalOwner) {
+        if (hasLegalOwner == null) {
+            return null;
+        }
+        return hasLegalOwner
+                ? (root, query, cb) -> cb.isNotNull(root.get("ownerLegalName"))
+                : (root, query, cb) -> cb.isNull(root.get("ownerLegalName"));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
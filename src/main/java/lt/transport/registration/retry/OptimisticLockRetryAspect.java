@@ -0,0 +1,42 @@
+package lt.transport.registration.retry;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OptimisticLockRetryAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticLockRetryAspect.class);
+
+    private final int maxAttempts;
+
+    public OptimisticLockRetryAspect(@Value("${vehicle.optimistic-lock.max-attempts:3}") int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Around("@annotation(lt.transport.registration.retry.RetryOnOptimisticLock)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    logger.error("Optimistic lock conflict in {} after {} attempts", joinPoint.getSignature().toShortString(), attempt);
+                    throw ex;
+                }
+                logger.warn("Optimistic lock conflict in {}, retrying (attempt {} of {})",
+                        joinPoint.getSignature().toShortString(), attempt + 1, maxAttempts);
+            }
+        }
+    }
+}
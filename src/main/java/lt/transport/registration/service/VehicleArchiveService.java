@@ -0,0 +1,172 @@
+package lt.transport.registration.service;
+
+import io.micrometer.core.annotation.Timed;
+import lt.transport.registration.dto.ArchivedVehicleRegistrationResponse;
+import lt.transport.registration.dto.VehicleOwnershipHistoryResponse;
+import lt.transport.registration.entity.ArchivedVehicleOwnershipHistory;
+import lt.transport.registration.entity.ArchivedVehicleRegistration;
+import lt.transport.registration.exception.VehicleNotFoundException;
+import lt.transport.registration.mapper.VehicleRegistrationMapper;
+import lt.transport.registration.repository.ArchivedVehicleOwnershipHistoryRepository;
+import lt.transport.registration.repository.ArchivedVehicleRegistrationRepository;
+import lt.transport.registration.util.PlateNoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static lt.transport.registration.constants.ResponseMessages.ARCHIVED_VEHICLE_NOT_FOUND;
+
+@Service
+@Timed(value = "vehicle.service", histogram = true)
+public class VehicleArchiveService {
+
+    private static final String SELECT_DELETED_VEHICLES_FOR_UPDATE_SQL = "SELECT id, plate_no, make, model, vehicle_year, "
+            + "owner_name, owner_surname, owner_legal_name, owner_code, version "
+            + "FROM vehicle_registration WHERE is_deleted = TRUE ORDER BY id FETCH FIRST ? ROWS ONLY FOR UPDATE";
+
+    private static final String INSERT_ARCHIVED_VEHICLE_SQL = "INSERT INTO vehicle_registration_archive "
+            + "(id, plate_no, plate_key, make, model, vehicle_year, owner_name, owner_surname, owner_legal_name, owner_code, version, archived_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ARCHIVE_OWNERSHIP_HISTORY_SQL = "INSERT INTO vehicle_ownership_history_archive "
+            + "(id, vehicle_registration_id, owner_name, owner_surname, owner_legal_name, owner_code, transfer_date) "
+            + "SELECT id, vehicle_registration_id, owner_name, owner_surname, owner_legal_name, owner_code, transfer_date "
+            + "FROM vehicle_ownership_history WHERE vehicle_registration_id IN (:ids)";
+
+    private static final String DELETE_OWNERSHIP_HISTORY_SQL = "DELETE FROM vehicle_ownership_history WHERE vehicle_registration_id IN (:ids)";
+
+    private static final String DELETE_VEHICLES_SQL = "DELETE FROM vehicle_registration WHERE id IN (:ids) AND is_deleted = TRUE";
+
+    private static final Logger logger = LoggerFactory.getLogger(VehicleArchiveService.class);
+
+    private final ArchivedVehicleRegistrationRepository archivedVehicleRegistrationRepository;
+
+    private final ArchivedVehicleOwnershipHistoryRepository archivedVehicleOwnershipHistoryRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    @Autowired
+    public VehicleArchiveService(ArchivedVehicleRegistrationRepository archivedVehicleRegistrationRepository,
+                                 ArchivedVehicleOwnershipHistoryRepository archivedVehicleOwnershipHistoryRepository,
+                                 JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                 TransactionTemplate transactionTemplate, @Value("${vehicle.archive.batch-size:500}") int batchSize) {
+        this.archivedVehicleRegistrationRepository = archivedVehicleRegistrationRepository;
+        this.archivedVehicleOwnershipHistoryRepository = archivedVehicleOwnershipHistoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${vehicle.archive.interval:PT5M}", fixedDelayString = "${vehicle.archive.interval:PT5M}")
+    public int archiveDeletedVehicleRegistrations() {
+        int archivedCount = 0;
+        int archived;
+        do {
+            archived = transactionTemplate.execute(status -> archiveBatch());
+            archivedCount += archived;
+        } while (archived == batchSize);
+        if (archivedCount > 0) {
+            logger.info("Archived {} deleted vehicle registrations", archivedCount);
+        }
+        return archivedCount;
+    }
+
+    public ArchivedVehicleRegistrationResponse findArchivedVehicleRegistrationById(Long vehicleId) {
+        logger.info("Fetching archived vehicle registration with ID: {}", vehicleId);
+        ArchivedVehicleRegistration archivedVehicleRegistration = archivedVehicleRegistrationRepository.findById(vehicleId)
+                .orElseThrow(() -> {
+                    logger.error("Archived vehicle registration with ID {} not found", vehicleId);
+                    return new VehicleNotFoundException(String.format(ARCHIVED_VEHICLE_NOT_FOUND, vehicleId));
+                });
+        return toResponses(List.of(archivedVehicleRegistration)).get(0);
+    }
+
+    public List<ArchivedVehicleRegistrationResponse> findArchivedVehicleRegistrationsByPlateNo(String plateNo) {
+        logger.info("Fetching archived vehicle registrations with plate number: {}", plateNo);
+        return toResponses(archivedVehicleRegistrationRepository.findByPlateKeyOrderByArchivedAtDescIdDesc(PlateNoUtil.toPlateKey(plateNo)));
+    }
+
+    private int archiveBatch() {
+        List<ArchivedVehicleRegistration> vehicles = jdbcTemplate.query(SELECT_DELETED_VEHICLES_FOR_UPDATE_SQL,
+                (rs, rowNum) -> ArchivedVehicleRegistration.builder()
+                        .id(rs.getLong("id"))
+                        .plateNo(rs.getString("plate_no"))
+                        .plateKey(PlateNoUtil.toPlateKey(rs.getString("plate_no")))
+                        .make(rs.getString("make"))
+                        .model(rs.getString("model"))
+                        .year(rs.getInt("vehicle_year"))
+                        .ownerName(rs.getString("owner_name"))
+                        .ownerSurname(rs.getString("owner_surname"))
+                        .ownerLegalName(rs.getString("owner_legal_name"))
+                        .ownerCode(rs.getString("owner_code"))
+                        .version(rs.getLong("version"))
+                        .build(),
+                batchSize);
+        if (vehicles.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ARCHIVED_VEHICLE_SQL, vehicles, vehicles.size(), (ps, vehicle) -> {
+            ps.setLong(1, vehicle.getId());
+            ps.setString(2, vehicle.getPlateNo());
+            ps.setString(3, vehicle.getPlateKey());
+            ps.setString(4, vehicle.getMake());
+            ps.setString(5, vehicle.getModel());
+            ps.setInt(6, vehicle.getYear());
+            ps.setString(7, vehicle.getOwnerName());
+            ps.setString(8, vehicle.getOwnerSurname());
+            if (vehicle.getOwnerLegalName() != null) {
+                ps.setString(9, vehicle.getOwnerLegalName());
+            } else {
+                ps.setNull(9, Types.VARCHAR);
+            }
+            ps.setString(10, vehicle.getOwnerCode());
+            ps.setLong(11, vehicle.getVersion());
+            ps.setTimestamp(12, archivedAt);
+        });
+
+        Map<String, List<Long>> ids = Map.of("ids", vehicles.stream().map(ArchivedVehicleRegistration::getId).toList());
+        int archivedHistory = namedParameterJdbcTemplate.update(ARCHIVE_OWNERSHIP_HISTORY_SQL, ids);
+        namedParameterJdbcTemplate.update(DELETE_OWNERSHIP_HISTORY_SQL, ids);
+        namedParameterJdbcTemplate.update(DELETE_VEHICLES_SQL, ids);
+        logger.info("Moved {} deleted vehicle registrations and {} ownership history records to the archive", vehicles.size(), archivedHistory);
+        return vehicles.size();
+    }
+
+    private List<ArchivedVehicleRegistrationResponse> toResponses(List<ArchivedVehicleRegistration> archivedVehicleRegistrations) {
+        if (archivedVehicleRegistrations.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<VehicleOwnershipHistoryResponse>> historyByVehicleId = archivedVehicleOwnershipHistoryRepository
+                .findByVehicleRegistrationIdInOrderByTransferDateDescIdDesc(
+                        archivedVehicleRegistrations.stream().map(ArchivedVehicleRegistration::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(ArchivedVehicleOwnershipHistory::getVehicleRegistrationId,
+                        Collectors.mapping(VehicleRegistrationMapper.INSTANCE::toHistoryDto, Collectors.toList())));
+        return archivedVehicleRegistrations.stream()
+                .map(archived -> VehicleRegistrationMapper.INSTANCE.toArchivedDto(archived,
+                        historyByVehicleId.getOrDefault(archived.getId(), List.of())))
+                .toList();
+    }
+}
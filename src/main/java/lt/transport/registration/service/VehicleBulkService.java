@@ -0,0 +1,439 @@
+package lt.transport.registration.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lt.transport.registration.cache.VehicleDetailsCache;
+import lt.transport.registration.cache.VehiclePlateCache;
+import lt.transport.registration.cache.VehicleRegistryVersion;
+import lt.transport.registration.dto.VehicleBulkDeleteRequest;
+import lt.transport.registration.dto.VehicleBulkDeleteResponse;
+import lt.transport.registration.dto.VehicleBulkRegistrationResponse;
+import lt.transport.registration.dto.VehicleBulkRegistrationResult;
+import lt.transport.registration.dto.VehicleBulkTransferOwnerRequest;
+import lt.transport.registration.dto.VehicleBulkTransferOwnerResponse;
+import lt.transport.registration.dto.VehicleBulkTransferOwnerResult;
+import lt.transport.registration.dto.VehicleChangeType;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.repository.VehicleChangeEventRepository;
+import lt.transport.registration.repository.VehicleRegistrationRepository;
+import lt.transport.registration.stats.VehicleStatistics;
+import lt.transport.registration.stream.VehicleChangeStream;
+import lt.transport.registration.util.PlateNoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static lt.transport.registration.constants.ResponseMessages.CURRENT_OWNER_OF_THE_VEHICLE_NOT_FOUND;
+import static lt.transport.registration.constants.ResponseMessages.DUPLICATE_VEHICLE_IN_REQUEST;
+import static lt.transport.registration.constants.ResponseMessages.PLATE_NO_ALREADY_EXISTS;
+import static lt.transport.registration.constants.ResponseMessages.REQUEST_BODY_CANNOT_BE_NULL;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_NOT_FOUND;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_OWNER_TRANSFERRED;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_REGISTERED_SUCCESSFULLY;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_REGISTRATION_REJECTED;
+
+@Service
+@Timed(value = "vehicle.service", histogram = true)
+public class VehicleBulkService {
+
+    private static final String INSERT_VEHICLE_REGISTRATION_SQL = "INSERT INTO vehicle_registration "
+            + "(plate_no, plate_key, make, model, vehicle_year, owner_name, owner_surname, owner_legal_name, owner_code, is_deleted, version, last_modified_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE, 0, LOCALTIMESTAMP)";
+
+    private static final String SELECT_CURRENT_OWNERS_FOR_UPDATE_SQL = "SELECT id, plate_key, owner_name, owner_surname, owner_legal_name, owner_code "
+            + "FROM vehicle_registration WHERE id IN (:ids) AND is_deleted = FALSE FOR UPDATE";
+
+    private static final String INSERT_OWNERSHIP_HISTORY_SQL = "INSERT INTO vehicle_ownership_history "
+            + "(vehicle_registration_id, owner_name, owner_surname, owner_legal_name, owner_code, transfer_date) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_OWNER_SQL = "UPDATE vehicle_registration "
+            + "SET owner_name = ?, owner_surname = ?, owner_legal_name = ?, owner_code = ?, version = version + 1, last_modified_at = LOCALTIMESTAMP "
+            + "WHERE id = ?";
+
+    private static final String SELECT_ACTIVE_IDS_BY_OWNER_CODE_SQL = "SELECT id FROM vehicle_registration "
+            + "WHERE owner_code = ? AND is_deleted = FALSE ORDER BY id FETCH FIRST ? ROWS ONLY";
+
+    private static final String SELECT_ACTIVE_PLATE_KEYS_FOR_UPDATE_SQL = "SELECT id, plate_key FROM vehicle_registration "
+            + "WHERE id IN (:ids) AND is_deleted = FALSE FOR UPDATE";
+
+    private static final String SOFT_DELETE_SQL = "UPDATE vehicle_registration "
+            + "SET is_deleted = TRUE, plate_key = NULL, version = version + 1, last_modified_at = LOCALTIMESTAMP "
+            + "WHERE id IN (:ids) AND is_deleted = FALSE";
+
+    private static final Logger logger = LoggerFactory.getLogger(VehicleBulkService.class);
+
+    private final VehicleRegistrationRepository vehicleRegistrationRepository;
+
+    private final VehicleChangeEventRepository vehicleChangeEventRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Validator validator;
+
+    private final VehiclePlateCache vehiclePlateCache;
+
+    private final VehicleDetailsCache vehicleDetailsCache;
+
+    private final VehicleStatistics vehicleStatistics;
+
+    private final VehicleChangeStream vehicleChangeStream;
+
+    private final VehicleRegistryVersion vehicleRegistryVersion;
+
+    private final int batchSize;
+
+    @Autowired
+    public VehicleBulkService(VehicleRegistrationRepository vehicleRegistrationRepository,
+                              VehicleChangeEventRepository vehicleChangeEventRepository, JdbcTemplate jdbcTemplate,
+                              NamedParameterJdbcTemplate namedParameterJdbcTemplate, TransactionTemplate transactionTemplate,
+                              Validator validator, VehiclePlateCache vehiclePlateCache, VehicleDetailsCache vehicleDetailsCache,
+                              VehicleStatistics vehicleStatistics, VehicleChangeStream vehicleChangeStream,
+                              VehicleRegistryVersion vehicleRegistryVersion, @Value("${vehicle.bulk.batch-size:500}") int batchSize) {
+        this.vehicleRegistrationRepository = vehicleRegistrationRepository;
+        this.vehicleChangeEventRepository = vehicleChangeEventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.vehiclePlateCache = vehiclePlateCache;
+        this.vehicleDetailsCache = vehicleDetailsCache;
+        this.vehicleStatistics = vehicleStatistics;
+        this.vehicleChangeStream = vehicleChangeStream;
+        this.vehicleRegistryVersion = vehicleRegistryVersion;
+        this.batchSize = batchSize;
+    }
+
+    public VehicleBulkRegistrationResponse registerVehicles(Iterator<VehicleRegistrationRequest> vehicleRegistrationRequests) {
+        logger.info("Starting bulk vehicle registration with batch size: {}", batchSize);
+        List<VehicleBulkRegistrationResult> results = new ArrayList<>();
+        Set<String> seenPlateKeys = new HashSet<>();
+        List<PendingRegistration> chunk = new ArrayList<>(batchSize);
+        int index = 0;
+
+        while (vehicleRegistrationRequests.hasNext()) {
+            VehicleRegistrationRequest request = vehicleRegistrationRequests.next();
+            String violations = validate(request);
+            if (violations != null) {
+                results.add(rejected(index++, request, violations));
+                continue;
+            }
+            String plateKey = PlateNoUtil.toPlateKey(request.plateNo());
+            if (!seenPlateKeys.add(plateKey)) {
+                results.add(rejected(index++, request, PLATE_NO_ALREADY_EXISTS));
+                continue;
+            }
+            chunk.add(new PendingRegistration(index++, plateKey, request));
+            if (chunk.size() == batchSize) {
+                results.addAll(registerChunk(chunk));
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(registerChunk(chunk));
+        }
+
+        results.sort(Comparator.comparingInt(VehicleBulkRegistrationResult::index));
+        int registeredCount = (int) results.stream().filter(VehicleBulkRegistrationResult::registered).count();
+        logger.info("Bulk vehicle registration finished. Registered: {}, Rejected: {}", registeredCount, results.size() - registeredCount);
+        return new VehicleBulkRegistrationResponse(registeredCount, results.size() - registeredCount, results);
+    }
+
+    public VehicleBulkTransferOwnerResponse transferOwners(List<VehicleBulkTransferOwnerRequest> transferOwnerRequests) {
+        logger.info("Starting bulk transfer of ownership for {} vehicles with batch size: {}", transferOwnerRequests.size(), batchSize);
+        List<VehicleBulkTransferOwnerResult> results = new ArrayList<>(transferOwnerRequests.size());
+        Set<Long> seenVehicleIds = new HashSet<>();
+        List<PendingTransfer> chunk = new ArrayList<>(batchSize);
+
+        for (int index = 0; index < transferOwnerRequests.size(); index++) {
+            VehicleBulkTransferOwnerRequest request = transferOwnerRequests.get(index);
+            String violations = validate(request);
+            if (violations != null) {
+                results.add(rejected(index, request, violations));
+                continue;
+            }
+            if (!seenVehicleIds.add(request.vehicleId())) {
+                results.add(rejected(index, request, String.format(DUPLICATE_VEHICLE_IN_REQUEST, request.vehicleId())));
+                continue;
+            }
+            chunk.add(new PendingTransfer(index, request));
+            if (chunk.size() == batchSize) {
+                List<PendingTransfer> transfers = chunk;
+                results.addAll(transactionTemplate.execute(status -> transferChunk(transfers)));
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            List<PendingTransfer> transfers = chunk;
+            results.addAll(transactionTemplate.execute(status -> transferChunk(transfers)));
+        }
+
+        results.sort(Comparator.comparingInt(VehicleBulkTransferOwnerResult::index));
+        int transferredCount = (int) results.stream().filter(VehicleBulkTransferOwnerResult::transferred).count();
+        logger.info("Bulk transfer of ownership finished. Transferred: {}, Rejected: {}", transferredCount, results.size() - transferredCount);
+        return new VehicleBulkTransferOwnerResponse(transferredCount, results.size() - transferredCount, results);
+    }
+
+    public VehicleBulkDeleteResponse deleteVehicles(VehicleBulkDeleteRequest deleteRequest) {
+        int deletedCount = 0;
+        if (deleteRequest.ownerCode() != null && !deleteRequest.ownerCode().isBlank()) {
+            logger.info("Starting bulk deletion of vehicles owned by {} with batch size: {}", deleteRequest.ownerCode(), batchSize);
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> deleteChunk(jdbcTemplate.queryForList(
+                        SELECT_ACTIVE_IDS_BY_OWNER_CODE_SQL, Long.class, deleteRequest.ownerCode(), batchSize)));
+                deletedCount += deleted;
+            } while (deleted > 0);
+        } else {
+            List<Long> vehicleIds = deleteRequest.vehicleIds().stream().filter(Objects::nonNull).distinct().toList();
+            logger.info("Starting bulk deletion of {} vehicles with batch size: {}", vehicleIds.size(), batchSize);
+            for (int from = 0; from < vehicleIds.size(); from += batchSize) {
+                List<Long> chunk = vehicleIds.subList(from, Math.min(from + batchSize, vehicleIds.size()));
+                deletedCount += transactionTemplate.execute(status -> deleteChunk(chunk));
+            }
+        }
+        logger.info("Bulk deletion finished. Deleted: {}", deletedCount);
+        return new VehicleBulkDeleteResponse(deletedCount);
+    }
+
+    private int deleteChunk(List<Long> vehicleIds) {
+        if (vehicleIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, String> activePlateKeys = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_ACTIVE_PLATE_KEYS_FOR_UPDATE_SQL, Map.of("ids", vehicleIds),
+                rs -> {
+                    activePlateKeys.put(rs.getLong("id"), rs.getString("plate_key"));
+                });
+        List<Long> activeIds = List.copyOf(activePlateKeys.keySet());
+        if (activeIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = namedParameterJdbcTemplate.update(SOFT_DELETE_SQL, Map.of("ids", activeIds));
+        vehicleChangeEventRepository.recordChanges(VehicleChangeType.DELETED.name(), LocalDateTime.now(), activeIds);
+        vehicleChangeStream.publishAfterCommit();
+        vehicleRegistryVersion.incrementAfterCommit();
+        vehiclePlateCache.invalidateAllAfterCommit(activePlateKeys.values());
+        activeIds.forEach(vehicleDetailsCache::invalidateAfterCommit);
+        vehicleStatistics.deletedAfterCommit(activeIds);
+        logger.info("Marked {} vehicle registrations as deleted in one batch", deleted);
+        return deleted;
+    }
+
+    private List<VehicleBulkTransferOwnerResult> transferChunk(List<PendingTransfer> chunk) {
+        Map<Long, CurrentOwner> currentOwners = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_CURRENT_OWNERS_FOR_UPDATE_SQL,
+                Map.of("ids", chunk.stream().map(pending -> pending.request().vehicleId()).toList()),
+                rs -> {
+                    CurrentOwner owner = new CurrentOwner(rs.getLong("id"), rs.getString("plate_key"), rs.getString("owner_name"),
+                            rs.getString("owner_surname"), rs.getString("owner_legal_name"), rs.getString("owner_code"));
+                    currentOwners.put(owner.vehicleId(), owner);
+                });
+
+        List<VehicleBulkTransferOwnerResult> results = new ArrayList<>(chunk.size());
+        List<PendingTransfer> toTransfer = new ArrayList<>(chunk.size());
+        for (PendingTransfer pending : chunk) {
+            Long vehicleId = pending.request().vehicleId();
+            CurrentOwner owner = currentOwners.get(vehicleId);
+            if (owner == null) {
+                logger.error("Vehicle registration with ID {} not found", vehicleId);
+                results.add(rejected(pending.index(), pending.request(), String.format(VEHICLE_NOT_FOUND, vehicleId)));
+            } else if (!owner.isComplete()) {
+                logger.error("Current owner details not found for vehicle registration ID {}", vehicleId);
+                results.add(rejected(pending.index(), pending.request(), CURRENT_OWNER_OF_THE_VEHICLE_NOT_FOUND));
+            } else {
+                toTransfer.add(pending);
+            }
+        }
+        if (toTransfer.isEmpty()) {
+            return results;
+        }
+
+        Timestamp transferDate = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_OWNERSHIP_HISTORY_SQL, toTransfer, toTransfer.size(), (ps, pending) -> {
+            CurrentOwner owner = currentOwners.get(pending.request().vehicleId());
+            ps.setLong(1, owner.vehicleId());
+            ps.setString(2, owner.ownerName());
+            ps.setString(3, owner.ownerSurname());
+            ps.setString(4, owner.ownerLegalName());
+            ps.setString(5, owner.ownerCode());
+            ps.setTimestamp(6, transferDate);
+        });
+        jdbcTemplate.batchUpdate(UPDATE_OWNER_SQL, toTransfer, toTransfer.size(), (ps, pending) -> {
+            VehicleBulkTransferOwnerRequest request = pending.request();
+            ps.setString(1, request.newOwnerName());
+            ps.setString(2, request.newOwnerSurname());
+            ps.setString(3, request.newOwnerLegalName());
+            ps.setString(4, request.newOwnerCode());
+            ps.setLong(5, request.vehicleId());
+        });
+        vehicleChangeEventRepository.recordChanges(VehicleChangeType.OWNER_TRANSFERRED.name(), transferDate.toLocalDateTime(),
+                toTransfer.stream().map(pending -> pending.request().vehicleId()).toList());
+        vehicleChangeStream.publishAfterCommit();
+        vehicleRegistryVersion.incrementAfterCommit();
+
+        for (PendingTransfer pending : toTransfer) {
+            CurrentOwner owner = currentOwners.get(pending.request().vehicleId());
+            vehiclePlateCache.invalidateAfterCommit(owner.plateKey());
+            vehicleDetailsCache.invalidateAfterCommit(owner.vehicleId());
+            vehicleStatistics.ownerChangedAfterCommit(owner.ownerLegalName(), pending.request().newOwnerLegalName());
+            results.add(new VehicleBulkTransferOwnerResult(pending.index(), owner.vehicleId(), true, VEHICLE_OWNER_TRANSFERRED));
+        }
+        logger.info("Transferred ownership of {} vehicles in one batch", toTransfer.size());
+        return results;
+    }
+
+    private List<VehicleBulkRegistrationResult> registerChunk(List<PendingRegistration> chunk) {
+        Set<String> existingPlateKeys = new HashSet<>(vehicleRegistrationRepository.findExistingPlateKeys(
+                chunk.stream().map(PendingRegistration::plateKey).collect(Collectors.toSet())));
+        List<VehicleBulkRegistrationResult> results = new ArrayList<>(chunk.size());
+        List<PendingRegistration> toInsert = new ArrayList<>(chunk.size());
+        for (PendingRegistration pending : chunk) {
+            if (existingPlateKeys.contains(pending.plateKey())) {
+                results.add(rejected(pending.index(), pending.request(), PLATE_NO_ALREADY_EXISTS));
+            } else {
+                toInsert.add(pending);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return results;
+        }
+
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insertBatch(toInsert));
+            for (int i = 0; i < toInsert.size(); i++) {
+                results.add(registered(toInsert.get(i), ids.get(i)));
+            }
+            logger.info("Inserted batch of {} vehicle registrations", toInsert.size());
+        } catch (DataIntegrityViolationException ex) {
+            logger.warn("Batch insert of {} vehicle registrations violated a constraint, retrying one by one", toInsert.size());
+            for (PendingRegistration pending : toInsert) {
+                try {
+                    List<Long> ids = transactionTemplate.execute(status -> insertBatch(List.of(pending)));
+                    results.add(registered(pending, ids.get(0)));
+                } catch (DataIntegrityViolationException violation) {
+                    if (PlateNoUtil.isPlateKeyViolation(violation)) {
+                        logger.error("Plate number {} already exists in the system", pending.request().plateNo());
+                        results.add(rejected(pending.index(), pending.request(), PLATE_NO_ALREADY_EXISTS));
+                    } else {
+                        logger.error("Vehicle registration with plateNo {} violated a constraint: {}", pending.request().plateNo(), violation.getMessage());
+                        results.add(rejected(pending.index(), pending.request(), VEHICLE_REGISTRATION_REJECTED));
+                    }
+                }
+            }
+        }
+        toInsert.forEach(pending -> vehiclePlateCache.invalidateAfterCommit(pending.plateKey()));
+        return results;
+    }
+
+    private List<Long> insertBatch(List<PendingRegistration> registrations) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_VEHICLE_REGISTRATION_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingRegistration pending = registrations.get(i);
+                        VehicleRegistrationRequest request = pending.request();
+                        ps.setString(1, request.plateNo().toLowerCase());
+                        ps.setString(2, pending.plateKey());
+                        ps.setString(3, request.make());
+                        ps.setString(4, request.model());
+                        ps.setInt(5, request.year());
+                        ps.setString(6, request.ownerName());
+                        ps.setString(7, request.ownerSurname());
+                        if (request.ownerLegalName() != null) {
+                            ps.setString(8, request.ownerLegalName());
+                        } else {
+                            ps.setNull(8, Types.VARCHAR);
+                        }
+                        ps.setString(9, request.ownerCode());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return registrations.size();
+                    }
+                }, keyHolder);
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+        vehicleChangeEventRepository.recordChanges(VehicleChangeType.REGISTERED.name(), LocalDateTime.now(), ids);
+        vehicleChangeStream.publishAfterCommit();
+        vehicleRegistryVersion.incrementAfterCommit();
+        return ids;
+    }
+
+    private <T> String validate(T request) {
+        if (request == null) {
+            return REQUEST_BODY_CANNOT_BE_NULL;
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private VehicleBulkRegistrationResult registered(PendingRegistration pending, Long vehicleId) {
+        VehicleRegistrationRequest request = pending.request();
+        vehicleStatistics.registeredAfterCommit(request.make(), request.model(), request.year(), request.ownerLegalName());
+        return new VehicleBulkRegistrationResult(pending.index(), pending.request().plateNo(), true, vehicleId, VEHICLE_REGISTERED_SUCCESSFULLY);
+    }
+
+    private VehicleBulkRegistrationResult rejected(int index, VehicleRegistrationRequest request, String message) {
+        return new VehicleBulkRegistrationResult(index, request != null ? request.plateNo() : null, false, null, message);
+    }
+
+    private VehicleBulkTransferOwnerResult rejected(int index, VehicleBulkTransferOwnerRequest request, String message) {
+        return new VehicleBulkTransferOwnerResult(index, request != null ? request.vehicleId() : null, false, message);
+    }
+
+    private record PendingRegistration(int index, String plateKey, VehicleRegistrationRequest request) {
+    }
+
+    private record PendingTransfer(int index, VehicleBulkTransferOwnerRequest request) {
+    }
+
+    private record CurrentOwner(Long vehicleId, String plateKey, String ownerName, String ownerSurname, String ownerLegalName,
+                                String ownerCode) {
+
+        boolean isComplete() {
+            return ownerName != null && !ownerName.isEmpty()
+                    && ownerSurname != null && !ownerSurname.isEmpty()
+                    && ownerCode != null && !ownerCode.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package lt.transport.registration.service;
+
+import io.micrometer.core.annotation.Timed;
+import lt.transport.registration.dto.VehicleChangeEventResponse;
+import lt.transport.registration.dto.VehicleChangeFeedResponse;
+import lt.transport.registration.entity.VehicleChangeEvent;
+import lt.transport.registration.exception.InvalidPageCursorException;
+import lt.transport.registration.repository.VehicleChangeEventRepository;
+import lt.transport.registration.util.PageCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static lt.transport.registration.constants.ResponseMessages.INVALID_PAGE_CURSOR;
+
+@Service
+@Timed(value = "vehicle.service", histogram = true)
+public class VehicleChangeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VehicleChangeService.class);
+
+    private final VehicleChangeEventRepository vehicleChangeEventRepository;
+
+    private final Duration visibilityDelay;
+
+    private final Duration gapTimeout;
+
+    @Autowired
+    public VehicleChangeService(VehicleChangeEventRepository vehicleChangeEventRepository,
+                                @Value("${vehicle.changes.visibility-delay:PT5S}") Duration visibilityDelay,
+                                @Value("${vehicle.changes.gap-timeout:PT1M}") Duration gapTimeout) {
+        this.vehicleChangeEventRepository = vehicleChangeEventRepository;
+        this.visibilityDelay = visibilityDelay;
+        this.gapTimeout = gapTimeout;
+    }
+
+    /**
+     * Returns the changes recorded after the given token. Change ids are taken when the event is written, not
+     * when its transaction commits, so the page ends before the first change that a slower transaction could
+     * still precede with a lower id; see {@link #findPublishedChangesAfter(long, int)}.
+     */
+    @Transactional(readOnly = true)
+    public VehicleChangeFeedResponse findChanges(String since, int pageSize) {
+        int size = Math.max(pageSize, 1);
+        long afterId = 0;
+        if (since != null && !since.isBlank()) {
+            PageCursor cursor = PageCursor.decode(since, VehicleChangeEvent.class);
+            if (!"id".equals(cursor.sortBy()) || cursor.direction() != Sort.Direction.ASC || !cursor.keys().containsKey("id")) {
+                throw new InvalidPageCursorException(INVALID_PAGE_CURSOR);
+            }
+            afterId = (Long) cursor.keys().get("id");
+        }
+        logger.info("Searching for vehicle changes after change ID: {}. Size: {}", afterId, size);
+
+        List<VehicleChangeEventResponse> changes = findPublishedChangesAfter(afterId, size + 1);
+        boolean hasMore = changes.size() > size;
+        if (hasMore) {
+            changes = changes.subList(0, size);
+        }
+        long lastId = changes.isEmpty() ? afterId : changes.get(changes.size() - 1).changeId();
+        String nextToken = new PageCursor("id", Sort.Direction.ASC, Map.of("id", lastId)).encode();
+        logger.info("Found {} vehicle changes after change ID: {}. Has more: {}", changes.size(), afterId, hasMore);
+        return new VehicleChangeFeedResponse(changes, size, nextToken, hasMore);
+    }
+
+    /**
+     * Reads up to {@code limit} changes after the given change id and returns them up to, but not including, the
+     * first one that is younger than {@code vehicle.changes.visibility-delay}, or that follows a gap in the ids and
+     * is younger than {@code vehicle.changes.gap-timeout}. A gap is an id taken by a transaction that has not
+     * committed yet or never will, as a rolled back one; once the gap timeout has passed it is assumed to be the
+     * latter and skipped for good, so a transaction that commits its event later than that is not returned.
+     */
+    @Transactional(readOnly = true)
+    public List<VehicleChangeEventResponse> findPublishedChangesAfter(long afterId, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime visibleBefore = now.minus(visibilityDelay);
+        LocalDateTime gapClosedBefore = now.minus(gapTimeout);
+        List<VehicleChangeEventResponse> changes = vehicleChangeEventRepository.findChangesAfter(afterId, Limit.of(limit));
+        long previousId = afterId;
+        for (int i = 0; i < changes.size(); i++) {
+            VehicleChangeEventResponse change = changes.get(i);
+            boolean afterGap = change.changeId() != previousId + 1;
+            if (change.changedAt().isAfter(visibleBefore) || afterGap && change.changedAt().isAfter(gapClosedBefore)) {
+                logger.debug("Holding back vehicle changes from change ID: {}. After gap: {}", change.changeId(), afterGap);
+                return changes.subList(0, i);
+            }
+            previousId = change.changeId();
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,108 @@
+package lt.transport.registration.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lt.transport.registration.dto.ExportFormat;
+import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
+import lt.transport.registration.entity.VehicleRegistration;
+import lt.transport.registration.mapper.VehicleRegistrationMapper;
+import lt.transport.registration.repository.VehicleRegistrationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+@Service
+@Timed(value = "vehicle.service", histogram = true)
+public class VehicleExportService {
+
+    private static final String CSV_HEADER = "vehicleId,plateNo,make,model,year,ownerName,ownerSurname,ownerLegalName,ownerCode";
+
+    private static final Logger logger = LoggerFactory.getLogger(VehicleExportService.class);
+
+    private final VehicleRegistrationRepository vehicleRegistrationRepository;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public VehicleExportService(VehicleRegistrationRepository vehicleRegistrationRepository, EntityManager entityManager,
+                                PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.vehicleRegistrationRepository = vehicleRegistrationRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public void exportVehicleRegistrations(ExportFormat format, OutputStream outputStream) throws IOException {
+        logger.info("Exporting vehicle registrations as {}", format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            long exported = readOnlyTransactionTemplate.execute(status -> writeVehicleRegistrations(format, writer));
+            writer.flush();
+            logger.info("Exported {} vehicle registrations as {}", exported, format);
+        } catch (UncheckedIOException ex) {
+            logger.error("Vehicle registration export was interrupted: {}", ex.getMessage());
+            throw ex.getCause();
+        }
+    }
+
+    private long writeVehicleRegistrations(ExportFormat format, Writer writer) {
+        long exported = 0;
+        try (Stream<VehicleRegistration> vehicleRegistrations = vehicleRegistrationRepository.streamByIsDeletedFalseOrderByIdAsc()) {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            for (VehicleRegistration vehicleRegistration : (Iterable<VehicleRegistration>) vehicleRegistrations::iterator) {
+                VehicleRegistrationDetailsResponse details = VehicleRegistrationMapper.INSTANCE.toDto(vehicleRegistration);
+                entityManager.detach(vehicleRegistration);
+                writer.write(format == ExportFormat.CSV ? toCsvLine(details) : objectMapper.writeValueAsString(details));
+                writer.write('\n');
+                exported++;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return exported;
+    }
+
+    private String toCsvLine(VehicleRegistrationDetailsResponse details) {
+        return String.join(",",
+                String.valueOf(details.vehicleId()),
+                toCsvField(details.plateNo()),
+                toCsvField(details.make()),
+                toCsvField(details.model()),
+                String.valueOf(details.year()),
+                toCsvField(details.ownerName()),
+                toCsvField(details.ownerSurname()),
+                toCsvField(details.ownerLegalName()),
+                toCsvField(details.ownerCode()));
+    }
+
+    private String toCsvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,114 @@
+package lt.transport.registration.service;
+
+import io.micrometer.core.annotation.Timed;
+import lt.transport.registration.cache.VehicleDetailsCache;
+import lt.transport.registration.cache.VehiclePlateCache;
+import lt.transport.registration.dto.VehicleLookupRequest;
+import lt.transport.registration.dto.VehicleLookupResponse;
+import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
+import lt.transport.registration.repository.VehicleRegistrationRepository;
+import lt.transport.registration.util.PlateNoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+@Timed(value = "vehicle.service", histogram = true)
+public class VehicleLookupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VehicleLookupService.class);
+
+    private final VehicleRegistrationRepository vehicleRegistrationRepository;
+
+    private final VehicleDetailsCache vehicleDetailsCache;
+
+    private final VehiclePlateCache vehiclePlateCache;
+
+    private final int chunkSize;
+
+    @Autowired
+    public VehicleLookupService(VehicleRegistrationRepository vehicleRegistrationRepository, VehicleDetailsCache vehicleDetailsCache,
+                                VehiclePlateCache vehiclePlateCache, @Value("${vehicle.lookup.chunk-size:500}") int chunkSize) {
+        this.vehicleRegistrationRepository = vehicleRegistrationRepository;
+        this.vehicleDetailsCache = vehicleDetailsCache;
+        this.vehiclePlateCache = vehiclePlateCache;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Resolves a batch of vehicle ids and plate numbers in one call. Keys already held by the details and plate
+     * caches are answered from memory; the rest are read with one {@code IN} query per {@code vehicle.lookup.chunk-size}
+     * keys. Those are not cached: a bulk load is not atomic per key, so a vehicle changed while it runs could be
+     * cached after its invalidation.
+     */
+    public VehicleLookupResponse lookupVehicles(VehicleLookupRequest lookupRequest) {
+        Set<Long> vehicleIds = new LinkedHashSet<>();
+        if (lookupRequest.vehicleIds() != null) {
+            lookupRequest.vehicleIds().stream().filter(Objects::nonNull).forEach(vehicleIds::add);
+        }
+        Map<String, String> plateNosByKey = new LinkedHashMap<>();
+        if (lookupRequest.plateNos() != null) {
+            lookupRequest.plateNos().stream().filter(plateNo -> plateNo != null && !plateNo.isBlank())
+                    .forEach(plateNo -> plateNosByKey.putIfAbsent(PlateNoUtil.toPlateKey(plateNo), plateNo));
+        }
+        logger.info("Looking up {} vehicle registrations by ID and {} by plateNo", vehicleIds.size(), plateNosByKey.size());
+
+        Map<Long, VehicleRegistrationDetailsResponse> detailsById = new HashMap<>(vehicleDetailsCache.getAllPresent(vehicleIds));
+        detailsById.putAll(loadByIds(vehicleIds.stream().filter(vehicleId -> !detailsById.containsKey(vehicleId)).toList()));
+        Map<String, VehicleRegistrationDetailsResponse> detailsByPlateKey = new HashMap<>(vehiclePlateCache.getAllPresent(plateNosByKey.keySet()));
+        detailsByPlateKey.putAll(loadByPlateKeys(plateNosByKey.keySet().stream().filter(plateKey -> !detailsByPlateKey.containsKey(plateKey)).toList()));
+
+        Map<Long, VehicleRegistrationDetailsResponse> vehicles = new LinkedHashMap<>();
+        List<Long> notFoundVehicleIds = new ArrayList<>();
+        for (Long vehicleId : vehicleIds) {
+            VehicleRegistrationDetailsResponse details = detailsById.get(vehicleId);
+            if (details == null) {
+                notFoundVehicleIds.add(vehicleId);
+            } else {
+                vehicles.putIfAbsent(details.vehicleId(), details);
+            }
+        }
+        List<String> notFoundPlateNos = new ArrayList<>();
+        for (Map.Entry<String, String> plateNo : plateNosByKey.entrySet()) {
+            VehicleRegistrationDetailsResponse details = detailsByPlateKey.get(plateNo.getKey());
+            if (details == null) {
+                notFoundPlateNos.add(plateNo.getValue());
+            } else {
+                vehicles.putIfAbsent(details.vehicleId(), details);
+            }
+        }
+        logger.info("Found {} vehicle registrations, {} IDs and {} plateNos not found", vehicles.size(), notFoundVehicleIds.size(), notFoundPlateNos.size());
+        return new VehicleLookupResponse(new ArrayList<>(vehicles.values()), notFoundVehicleIds, notFoundPlateNos);
+    }
+
+    private Map<Long, VehicleRegistrationDetailsResponse> loadByIds(List<Long> ids) {
+        Map<Long, VehicleRegistrationDetailsResponse> loaded = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            vehicleRegistrationRepository.findDetailsByIdIn(ids.subList(from, Math.min(from + chunkSize, ids.size())))
+                    .forEach(details -> loaded.put(details.vehicleId(), details));
+        }
+        logger.debug("Loaded {} of {} vehicle registrations by ID from the database", loaded.size(), ids.size());
+        return loaded;
+    }
+
+    private Map<String, VehicleRegistrationDetailsResponse> loadByPlateKeys(List<String> keys) {
+        Map<String, VehicleRegistrationDetailsResponse> loaded = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += chunkSize) {
+            vehicleRegistrationRepository.findDetailsByPlateKeyIn(keys.subList(from, Math.min(from + chunkSize, keys.size())))
+                    .forEach(details -> loaded.put(PlateNoUtil.toPlateKey(details.plateNo()), details));
+        }
+        logger.debug("Loaded {} of {} vehicle registrations by plateNo from the database", loaded.size(), keys.size());
+        return loaded;
+    }
+}
@@ -1,101 +1,365 @@
 package lt.transport.registration.service;
 
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
+import lt.transport.registration.cache.VehicleDetailsCache;
+import lt.transport.registration.cache.VehiclePlateCache;
+import lt.transport.registration.cache.VehicleRegistryVersion;
+import lt.transport.registration.dto.VehicleChangeType;
+import lt.transport.registration.dto.VehicleOwnershipHistoryPageResponse;
+import lt.transport.registration.dto.VehicleOwnershipHistoryResponse;
 import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
 import lt.transport.registration.dto.VehicleRegistrationPageResponse;
 import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.dto.VehicleSearchFilter;
 import lt.transport.registration.entity.VehicleOwnershipHistory;
 import lt.transport.registration.entity.VehicleRegistration;
-import lt.transport.registration.exception.PlateNoAlreadyExistsException;
+import lt.transport.registration.exception.InvalidPageCursorException;
 import lt.transport.registration.exception.VehicleNotFoundException;
+import lt.transport.registration.exception.VehicleVersionMismatchException;
 import lt.transport.registration.mapper.VehicleRegistrationMapper;
+import lt.transport.registration.repository.VehicleChangeEventRepository;
 import lt.transport.registration.repository.VehicleOwnershipHistoryRepository;
 import lt.transport.registration.repository.VehicleRegistrationRepository;
+import lt.transport.registration.repository.VehicleRegistrationSpecifications;
+import lt.transport.registration.retry.RetryOnOptimisticLock;
+import lt.transport.registration.stats.VehicleStatistics;
+import lt.transport.registration.stream.VehicleChangeStream;
+import lt.transport.registration.util.PageCursor;
+import lt.transport.registration.util.PlateNoUtil;
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static lt.transport.registration.constants.ResponseMessages.CURRENT_OWNER_OF_THE_VEHICLE_NOT_FOUND;
-import static lt.transport.registration.constants.ResponseMessages.PLATE_NO_ALREADY_EXISTS;
+import static lt.transport.registration.constants.ResponseMessages.INVALID_PAGE_CURSOR;
 import static lt.transport.registration.constants.ResponseMessages.VEHICLE_NOT_FOUND;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_VERSION_MISMATCH;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_WITH_PLATE_NO_NOT_FOUND;
 
 @Service
+@Timed(value = "vehicle.service", histogram = true)
 public class VehicleRegistrationService {
 
     private final VehicleRegistrationRepository vehicleRegistrationRepository;
 
     private final VehicleOwnershipHistoryRepository vehicleOwnershipHistoryRepository;
 
+    private final VehicleChangeEventRepository vehicleChangeEventRepository;
+
+    private final VehiclePlateCache vehiclePlateCache;
+
+    private final VehicleDetailsCache vehicleDetailsCache;
+
+    private final VehicleStatistics vehicleStatistics;
+
+    private final VehicleChangeStream vehicleChangeStream;
+
+    private final VehicleRegistryVersion vehicleRegistryVersion;
+
+    private static final String HISTORY_SORT_BY = "transferDate";
+
+    /**
+     * Properties a keyset cursor can continue by: columns that are never null on an active vehicle. Pages sorted by
+     * any other property are still served by page number, but carry no {@code nextCursor}.
+     */
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("id", "plateNo", "make", "model", "year", "ownerName", "ownerSurname", "ownerCode");
+
     private static final Logger logger = LoggerFactory.getLogger(VehicleRegistrationService.class);
 
     @Autowired
-    public VehicleRegistrationService(VehicleRegistrationRepository vehicleRegistrationRepository, VehicleOwnershipHistoryRepository vehicleOwnershipHistoryRepository) {
+    public VehicleRegistrationService(VehicleRegistrationRepository vehicleRegistrationRepository, VehicleOwnershipHistoryRepository vehicleOwnershipHistoryRepository,
+                                      VehicleChangeEventRepository vehicleChangeEventRepository, VehiclePlateCache vehiclePlateCache, VehicleDetailsCache vehicleDetailsCache,
+                                      VehicleStatistics vehicleStatistics, VehicleChangeStream vehicleChangeStream,
+                                      VehicleRegistryVersion vehicleRegistryVersion) {
         this.vehicleRegistrationRepository = vehicleRegistrationRepository;
         this.vehicleOwnershipHistoryRepository = vehicleOwnershipHistoryRepository;
+        this.vehicleChangeEventRepository = vehicleChangeEventRepository;
+        this.vehiclePlateCache = vehiclePlateCache;
+        this.vehicleDetailsCache = vehicleDetailsCache;
+        this.vehicleStatistics = vehicleStatistics;
+        this.vehicleChangeStream = vehicleChangeStream;
+        this.vehicleRegistryVersion = vehicleRegistryVersion;
     }
 
+    @Transactional
     public VehicleRegistration saveVehicleRegistration(VehicleRegistrationRequest vehicleRegistrationRequest) {
         logger.info("Attempting to save vehicle registration for plateNo: {}", vehicleRegistrationRequest.plateNo());
-        if (vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(vehicleRegistrationRequest.plateNo()).isPresent()) {
-            logger.error("Plate number {} already exists in the system", vehicleRegistrationRequest.plateNo());
-            throw new PlateNoAlreadyExistsException(PLATE_NO_ALREADY_EXISTS);
-        }
-
+        String plateKey = PlateNoUtil.toPlateKey(vehicleRegistrationRequest.plateNo());
         VehicleRegistration vehicleRegistration = VehicleRegistrationMapper.INSTANCE.toEntity(vehicleRegistrationRequest);
         vehicleRegistration.setPlateNo(vehicleRegistration.getPlateNo().toLowerCase());
+        vehicleRegistration.setPlateKey(plateKey);
         logger.debug("Mapped VehicleRegistration entity: {}", vehicleRegistration);
 
         VehicleRegistration savedVehicleRegistration = vehicleRegistrationRepository.save(vehicleRegistration);
+        vehicleChangeEventRepository.recordChanges(VehicleChangeType.REGISTERED.name(), LocalDateTime.now(), List.of(savedVehicleRegistration.getId()));
+        vehicleChangeStream.publishAfterCommit();
+        vehicleRegistryVersion.incrementAfterCommit();
+        vehiclePlateCache.invalidateAfterCommit(plateKey);
+        vehicleStatistics.registeredAfterCommit(savedVehicleRegistration.getMake(), savedVehicleRegistration.getModel(),
+                savedVehicleRegistration.getYear(), savedVehicleRegistration.getOwnerLegalName());
         logger.info("Vehicle registration saved successfully with ID: {}", savedVehicleRegistration.getId());
         return savedVehicleRegistration;
     }
 
     public VehicleRegistrationDetailsResponse findVehicleRegistrationById(Long id) {
         logger.info("Searching for vehicle registration with ID: {}", id);
-         return vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(id)
-                .map(v -> {
-                    logger.info("Vehicle registration found with ID: {}", id);
-                    return VehicleRegistrationMapper.INSTANCE.toDto(v);
-                })
-                .orElseThrow(() -> {
-                    logger.error("Vehicle registration with ID {} not found", id);
-                    return new VehicleNotFoundException(String.format(VEHICLE_NOT_FOUND, id));
-                });
+        VehicleRegistrationDetailsResponse vehicleRegistration = vehicleDetailsCache.get(id, key ->
+                vehicleRegistrationRepository.findDetailsById(key).orElse(null));
+        if (vehicleRegistration == null) {
+            logger.error("Vehicle registration with ID {} not found", id);
+            throw new VehicleNotFoundException(String.format(VEHICLE_NOT_FOUND, id));
+        }
+        logger.info("Vehicle registration found with ID: {}", id);
+        return vehicleRegistration;
+    }
+
+    public VehicleRegistrationDetailsResponse findVehicleRegistrationByPlateNo(String plateNo) {
+        logger.info("Searching for vehicle registration with plateNo: {}", plateNo);
+        String plateKey = PlateNoUtil.toPlateKey(plateNo);
+        VehicleRegistrationDetailsResponse vehicleRegistration = vehiclePlateCache.get(plateKey, key ->
+                vehicleRegistrationRepository.findDetailsByPlateKey(key).orElse(null));
+        if (vehicleRegistration == null) {
+            logger.error("Vehicle registration with plateNo {} not found", plateNo);
+            throw new VehicleNotFoundException(String.format(VEHICLE_WITH_PLATE_NO_NOT_FOUND, plateNo));
+        }
+        logger.info("Vehicle registration found with plateNo: {}", plateNo);
+        return vehicleRegistration;
     }
 
-    public VehicleRegistrationPageResponse findAllVehicleRegistrations(int page, int size, String sortBy, String sortDirection) {
-        logger.info("Searching for all vehicle registrations. Page: {}, Size: {}, Sort by: {}, Sort direction: {}", page, size, sortBy, sortDirection);
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<VehicleRegistrationDetailsResponse> vehicleRegistrations = vehicleRegistrationRepository.findVehicleRegistrationByIsDeletedFalse(pageable).map(VehicleRegistrationMapper.INSTANCE::toDto);
+    @Transactional(readOnly = true)
+    public VehicleRegistrationPageResponse findAllVehicleRegistrations(int page, int size, String sortBy, String sortDirection, boolean includeTotal) {
+        logger.info("Searching for all vehicle registrations. Page: {}, Size: {}, Sort by: {}, Sort direction: {}, Include total: {}",
+                page, size, sortBy, sortDirection, includeTotal);
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
+        if (!includeTotal) {
+            Slice<VehicleRegistration> vehicleRegistrations = vehicleRegistrationRepository.findSliceByIsDeletedFalse(pageable);
+            logger.info("Found {} vehicle registrations on page {}. Has next page: {}",
+                    vehicleRegistrations.getNumberOfElements(), page, vehicleRegistrations.hasNext());
+            return new VehicleRegistrationPageResponse(
+                    vehicleRegistrations.map(VehicleRegistrationMapper.INSTANCE::toDto).getContent(),
+                    page,
+                    size,
+                    null,
+                    null,
+                    nextCursor(vehicleRegistrations, sortBy, direction)
+            );
+        }
+
+        Page<VehicleRegistration> vehicleRegistrations = vehicleRegistrationRepository.findVehicleRegistrationByIsDeletedFalse(pageable);
         logger.info("Found {} vehicle registrations on page {} out of {} pages. Total records: {}",
-                vehicleRegistrations.getContent().size(), page, vehicleRegistrations.getTotalPages(), vehicleRegistrations.getTotalElements());
+                vehicleRegistrations.getNumberOfElements(), page, vehicleRegistrations.getTotalPages(), vehicleRegistrations.getTotalElements());
+
+        return new VehicleRegistrationPageResponse(
+                vehicleRegistrations.map(VehicleRegistrationMapper.INSTANCE::toDto).getContent(),
+                page,
+                size,
+                vehicleRegistrations.getTotalPages(),
+                vehicleRegistrations.getTotalElements(),
+                nextCursor(vehicleRegistrations, sortBy, direction)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public VehicleRegistrationPageResponse scrollVehicleRegistrations(String after, int size, boolean includeTotal) {
+        logger.info("Scrolling vehicle registrations after cursor. Size: {}, Include total: {}", size, includeTotal);
+        PageCursor cursor = decodeCursor(after);
+        Window<VehicleRegistration> vehicleRegistrations = vehicleRegistrationRepository.findVehicleRegistrationByIsDeletedFalse(
+                cursor.toScrollPosition(), cursor.toSort(), Limit.of(size));
+
+        String nextCursor = null;
+        if (vehicleRegistrations.hasNext()) {
+            KeysetScrollPosition lastPosition = (KeysetScrollPosition) vehicleRegistrations.positionAt(vehicleRegistrations.size() - 1);
+            nextCursor = PageCursor.of(cursor.sortBy(), cursor.direction(), lastPosition).encode();
+        }
+
+        Long totalElements = includeTotal ? vehicleRegistrationRepository.countByIsDeletedFalse() : null;
+        Integer totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / size) : null;
+        logger.info("Found {} vehicle registrations after cursor. Has next page: {}", vehicleRegistrations.size(), vehicleRegistrations.hasNext());
+
+        return new VehicleRegistrationPageResponse(
+                vehicleRegistrations.map(VehicleRegistrationMapper.INSTANCE::toDto).getContent(),
+                null,
+                size,
+                totalPages,
+                totalElements,
+                nextCursor
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public VehicleRegistrationPageResponse searchVehicleRegistrations(VehicleSearchFilter filter, int page, int size, String sortBy,
+                                                                      String sortDirection, String after, boolean includeTotal) {
+        logger.info("Searching for vehicle registrations matching {}. Page: {}, Size: {}, Sort by: {}, Sort direction: {}, Include total: {}",
+                filter, page, size, sortBy, sortDirection, includeTotal);
+        Specification<VehicleRegistration> specification = VehicleRegistrationSpecifications.matching(filter);
+
+        if (after != null && !after.isBlank()) {
+            PageCursor cursor = decodeCursor(after);
+            Window<VehicleRegistration> vehicleRegistrations = vehicleRegistrationRepository.findBy(specification,
+                    query -> query.sortBy(cursor.toSort()).limit(size).scroll(cursor.toScrollPosition()));
+            String nextCursor = null;
+            if (vehicleRegistrations.hasNext()) {
+                KeysetScrollPosition lastPosition = (KeysetScrollPosition) vehicleRegistrations.positionAt(vehicleRegistrations.size() - 1);
+                nextCursor = PageCursor.of(cursor.sortBy(), cursor.direction(), lastPosition).encode();
+            }
+            Long totalElements = includeTotal ? vehicleRegistrationRepository.count(specification) : null;
+            Integer totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / size) : null;
+            logger.info("Found {} matching vehicle registrations after cursor. Has next page: {}", vehicleRegistrations.size(), vehicleRegistrations.hasNext());
+            return new VehicleRegistrationPageResponse(
+                    vehicleRegistrations.map(VehicleRegistrationMapper.INSTANCE::toDto).getContent(),
+                    null,
+                    size,
+                    totalPages,
+                    totalElements,
+                    nextCursor
+            );
+        }
 
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Sort sort = Sort.by(direction, sortBy);
+        if (!includeTotal) {
+            ScrollPosition position = page == 0 ? ScrollPosition.offset() : ScrollPosition.offset((long) page * size - 1);
+            Window<VehicleRegistration> vehicleRegistrations = vehicleRegistrationRepository.findBy(specification,
+                    query -> query.sortBy(sort).limit(size).scroll(position));
+            List<VehicleRegistration> content = vehicleRegistrations.getContent();
+            String nextCursor = vehicleRegistrations.hasNext() && !content.isEmpty() && CURSOR_SORT_PROPERTIES.contains(sortBy)
+                    ? PageCursor.of(sortBy, direction, content.get(content.size() - 1)).encode()
+                    : null;
+            logger.info("Found {} matching vehicle registrations on page {}. Has next page: {}", content.size(), page, vehicleRegistrations.hasNext());
+            return new VehicleRegistrationPageResponse(
+                    vehicleRegistrations.map(VehicleRegistrationMapper.INSTANCE::toDto).getContent(),
+                    page,
+                    size,
+                    null,
+                    null,
+                    nextCursor
+            );
+        }
+
+        Page<VehicleRegistration> vehicleRegistrations = vehicleRegistrationRepository.findAll(specification, PageRequest.of(page, size, sort));
+        logger.info("Found {} matching vehicle registrations on page {} out of {} pages. Total records: {}",
+                vehicleRegistrations.getNumberOfElements(), page, vehicleRegistrations.getTotalPages(), vehicleRegistrations.getTotalElements());
         return new VehicleRegistrationPageResponse(
-                vehicleRegistrations.getContent(),
+                vehicleRegistrations.map(VehicleRegistrationMapper.INSTANCE::toDto).getContent(),
                 page,
                 size,
                 vehicleRegistrations.getTotalPages(),
-                vehicleRegistrations.getTotalElements()
+                vehicleRegistrations.getTotalElements(),
+                nextCursor(vehicleRegistrations, sortBy, direction)
         );
     }
 
+    @Transactional(readOnly = true)
+    public VehicleRegistrationPageResponse findVehicleRegistrationsByOwnerCode(String ownerCode, String after, int pageSize) {
+        int size = Math.max(pageSize, 1);
+        logger.info("Searching for vehicle registrations of owner with code: {}. Size: {}", ownerCode, size);
+        long afterId = 0;
+        if (after != null && !after.isBlank()) {
+            PageCursor cursor = PageCursor.decode(after, VehicleRegistration.class);
+            if (!"id".equals(cursor.sortBy()) || cursor.direction() != Sort.Direction.ASC || !cursor.keys().containsKey("id")) {
+                throw new InvalidPageCursorException(INVALID_PAGE_CURSOR);
+            }
+            afterId = (Long) cursor.keys().get("id");
+        }
+
+        List<VehicleRegistrationDetailsResponse> vehicleRegistrations =
+                vehicleRegistrationRepository.findByOwnerCodeAfter(ownerCode, afterId, Limit.of(size + 1));
+        String nextCursor = null;
+        if (vehicleRegistrations.size() > size) {
+            vehicleRegistrations = vehicleRegistrations.subList(0, size);
+            Long lastId = vehicleRegistrations.get(size - 1).vehicleId();
+            nextCursor = new PageCursor("id", Sort.Direction.ASC, Map.of("id", lastId)).encode();
+        }
+        logger.info("Found {} vehicle registrations of owner with code: {}. Has next page: {}",
+                vehicleRegistrations.size(), ownerCode, nextCursor != null);
+        return new VehicleRegistrationPageResponse(vehicleRegistrations, null, size, null, null, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public VehicleOwnershipHistoryPageResponse findOwnershipHistory(Long vehicleId, String after, int pageSize) {
+        int size = Math.max(pageSize, 1);
+        logger.info("Searching for ownership history of vehicle registration with ID: {}. Size: {}", vehicleId, size);
+        if (!vehicleRegistrationRepository.existsByIdAndIsDeletedFalse(vehicleId)) {
+            logger.error("Vehicle registration with ID {} not found", vehicleId);
+            throw new VehicleNotFoundException(String.format(VEHICLE_NOT_FOUND, vehicleId));
+        }
+
+        List<VehicleOwnershipHistoryResponse> history;
+        if (after != null && !after.isBlank()) {
+            PageCursor cursor = PageCursor.decode(after, VehicleOwnershipHistory.class);
+            if (!HISTORY_SORT_BY.equals(cursor.sortBy()) || cursor.direction() != Sort.Direction.DESC
+                    || !cursor.keys().containsKey(HISTORY_SORT_BY) || !cursor.keys().containsKey("id")) {
+                throw new InvalidPageCursorException(INVALID_PAGE_CURSOR);
+            }
+            history = vehicleOwnershipHistoryRepository.findLatestByVehicleIdBefore(vehicleId,
+                    (LocalDateTime) cursor.keys().get(HISTORY_SORT_BY), (Long) cursor.keys().get("id"), Limit.of(size + 1));
+        } else {
+            history = vehicleOwnershipHistoryRepository.findLatestByVehicleId(vehicleId, Limit.of(size + 1));
+        }
+
+        String nextCursor = null;
+        if (history.size() > size) {
+            history = history.subList(0, size);
+            VehicleOwnershipHistoryResponse last = history.get(size - 1);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(HISTORY_SORT_BY, last.transferDate());
+            keys.put("id", last.historyId());
+            nextCursor = new PageCursor(HISTORY_SORT_BY, Sort.Direction.DESC, keys).encode();
+        }
+        logger.info("Found {} ownership history records for vehicle registration with ID: {}. Has next page: {}",
+                history.size(), vehicleId, nextCursor != null);
+        return new VehicleOwnershipHistoryPageResponse(history, size, nextCursor);
+    }
+
+    private static PageCursor decodeCursor(String after) {
+        PageCursor cursor = PageCursor.decode(after, VehicleRegistration.class);
+        if (!CURSOR_SORT_PROPERTIES.contains(cursor.sortBy())) {
+            throw new InvalidPageCursorException(INVALID_PAGE_CURSOR);
+        }
+        return cursor;
+    }
+
+    private String nextCursor(Slice<VehicleRegistration> vehicleRegistrations, String sortBy, Sort.Direction direction) {
+        if (!vehicleRegistrations.hasNext() || !vehicleRegistrations.hasContent() || !CURSOR_SORT_PROPERTIES.contains(sortBy)) {
+            return null;
+        }
+        List<VehicleRegistration> content = vehicleRegistrations.getContent();
+        return PageCursor.of(sortBy, direction, content.get(content.size() - 1)).encode();
+    }
+
     @Transactional
+    @RetryOnOptimisticLock
     public VehicleRegistration transferOwnerOfVehicleRegistration(Long vehicleId, String newOwnerName, String newOwnerSurname, String newOwnerLegalName,
-                                                                  String newOwnerCode) {
+                                                                  String newOwnerCode, Long expectedVersion) {
         logger.info("Starting transfer of ownership of vehicle registration with ID: {}", vehicleId);
         VehicleRegistration vehicleRegistration = vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(vehicleId)
                 .orElseThrow(() -> {
                     logger.error("Vehicle registration with ID {} not found", vehicleId);
                     return new VehicleNotFoundException(String.format(VEHICLE_NOT_FOUND, vehicleId));
                 });
+        checkVersion(vehicleRegistration, expectedVersion);
 
         if ((vehicleRegistration.getOwnerName() == null ||  vehicleRegistration.getOwnerName().isEmpty())
                 || (vehicleRegistration.getOwnerSurname() == null || vehicleRegistration.getOwnerSurname().isEmpty())
@@ -114,31 +378,54 @@ public class VehicleRegistrationService {
         logger.info("Creating ownership history for vehicle registration ID {}", vehicleId);
 
         vehicleOwnershipHistoryRepository.save(history);
-        vehicleRegistration.getOwnershipHistory().add(history);
-        logger.info("Ownership history saved and added to vehicle registration with ID {}", vehicleId);
+        if (Hibernate.isInitialized(vehicleRegistration.getOwnershipHistory())) {
+            vehicleRegistration.getOwnershipHistory().add(history);
+        }
+        logger.info("Ownership history saved for vehicle registration with ID {}", vehicleId);
 
+        vehicleStatistics.ownerChangedAfterCommit(vehicleRegistration.getOwnerLegalName(), newOwnerLegalName);
         vehicleRegistration.setOwnerName(newOwnerName);
         vehicleRegistration.setOwnerSurname(newOwnerSurname);
         vehicleRegistration.setOwnerLegalName(newOwnerLegalName);
         vehicleRegistration.setOwnerCode(newOwnerCode);
         VehicleRegistration updatedVehicleRegistration = vehicleRegistrationRepository.save(vehicleRegistration);
+        vehicleChangeEventRepository.recordChanges(VehicleChangeType.OWNER_TRANSFERRED.name(), LocalDateTime.now(), List.of(vehicleId));
+        vehicleChangeStream.publishAfterCommit();
+        vehicleRegistryVersion.incrementAfterCommit();
+        vehiclePlateCache.invalidateAfterCommit(PlateNoUtil.toPlateKey(updatedVehicleRegistration.getPlateNo()));
+        vehicleDetailsCache.invalidateAfterCommit(updatedVehicleRegistration.getId());
         logger.info("Vehicle ownership transferred successfully for vehicle registration ID: {} to new owner: {} {}",
                 updatedVehicleRegistration.getId(), updatedVehicleRegistration.getOwnerName(), updatedVehicleRegistration.getOwnerSurname());
         return updatedVehicleRegistration;
     }
 
-    public VehicleRegistration deleteVehicleRegistration(Long vehicleId) {
+    @Transactional
+    public void deleteVehicleRegistration(Long vehicleId, Long expectedVersion) {
         logger.info("Starting deletion process for vehicle registration with ID: {}", vehicleId);
-        VehicleRegistration vehicleRegistration = vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(vehicleId)
-                .orElseThrow(() -> {
-                    logger.error("Vehicle registration with ID {} not found for deletion", vehicleId);
-                    return new VehicleNotFoundException(String.format(VEHICLE_NOT_FOUND, vehicleId));
-                });
+        if (vehicleRegistrationRepository.softDeleteById(vehicleId, expectedVersion) == 0) {
+            VehicleRegistration vehicleRegistration = vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(vehicleId)
+                    .orElseThrow(() -> {
+                        logger.error("Vehicle registration with ID {} not found for deletion", vehicleId);
+                        return new VehicleNotFoundException(String.format(VEHICLE_NOT_FOUND, vehicleId));
+                    });
+            checkVersion(vehicleRegistration, expectedVersion);
+            throw new ObjectOptimisticLockingFailureException(VehicleRegistration.class, vehicleId);
+        }
+        vehicleChangeEventRepository.recordChanges(VehicleChangeType.DELETED.name(), LocalDateTime.now(), List.of(vehicleId));
+        vehicleChangeStream.publishAfterCommit();
+        vehicleRegistryVersion.incrementAfterCommit();
+        vehicleRegistrationRepository.findPlateNoById(vehicleId)
+                .ifPresent(plateNo -> vehiclePlateCache.invalidateAfterCommit(PlateNoUtil.toPlateKey(plateNo)));
+        vehicleDetailsCache.invalidateAfterCommit(vehicleId);
+        vehicleStatistics.deletedAfterCommit(Set.of(vehicleId));
+        logger.info("Vehicle registration with ID {} successfully marked as deleted", vehicleId);
+    }
 
-        logger.info("Vehicle registration with ID {} found. Marking as deleted.", vehicleId);
-        vehicleRegistration.setDeleted(true);
-        VehicleRegistration deletedVehicleRegistration = vehicleRegistrationRepository.save(vehicleRegistration);
-        logger.info("Vehicle registration with ID {} successfully marked as deleted", deletedVehicleRegistration.getId());
-        return deletedVehicleRegistration;
+    private void checkVersion(VehicleRegistration vehicleRegistration, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(vehicleRegistration.getVersion())) {
+            logger.error("Vehicle registration with ID {} has version {}, but version {} was expected",
+                    vehicleRegistration.getId(), vehicleRegistration.getVersion(), expectedVersion);
+            throw new VehicleVersionMismatchException(String.format(VEHICLE_VERSION_MISMATCH, vehicleRegistration.getVersion()));
+        }
     }
 }
@@ -0,0 +1,154 @@
+package lt.transport.registration.stats;
+
+import lt.transport.registration.dto.OwnerType;
+import lt.transport.registration.dto.VehicleStatisticsResponse;
+import lt.transport.registration.util.TransactionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class VehicleStatistics {
+
+    private static final String COUNT_ACTIVE_VEHICLES_SQL = "SELECT make, model, vehicle_year, "
+            + "CASE WHEN owner_legal_name IS NULL THEN FALSE ELSE TRUE END AS legal_owner, COUNT(*) AS vehicles "
+            + "FROM vehicle_registration WHERE is_deleted = FALSE "
+            + "GROUP BY make, model, vehicle_year, CASE WHEN owner_legal_name IS NULL THEN FALSE ELSE TRUE END";
+
+    private static final String SELECT_VEHICLE_ATTRIBUTES_SQL = "SELECT make, model, vehicle_year, owner_legal_name "
+            + "FROM vehicle_registration WHERE id IN (:ids)";
+
+    private static final Logger logger = LoggerFactory.getLogger(VehicleStatistics.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private volatile Counters counters = new Counters(null);
+
+    @Autowired
+    public VehicleStatistics(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    public void registeredAfterCommit(String make, String model, Integer year, String ownerLegalName) {
+        TransactionUtil.runAfterCommit(() -> counters.add(make, model, year, OwnerType.of(ownerLegalName), 1));
+    }
+
+    /**
+     * Reads the attributes of vehicles the caller has just marked as deleted in the current transaction and
+     * subtracts them from the counters once that transaction commits.
+     */
+    public void deletedAfterCommit(Collection<Long> vehicleIds) {
+        if (vehicleIds.isEmpty()) {
+            return;
+        }
+        List<Runnable> decrements = namedParameterJdbcTemplate.query(SELECT_VEHICLE_ATTRIBUTES_SQL, Map.of("ids", vehicleIds),
+                (rs, rowNum) -> {
+                    String make = rs.getString("make");
+                    String model = rs.getString("model");
+                    int year = rs.getInt("vehicle_year");
+                    OwnerType ownerType = OwnerType.of(rs.getString("owner_legal_name"));
+                    return () -> counters.add(make, model, year, ownerType, -1);
+                });
+        TransactionUtil.runAfterCommit(() -> decrements.forEach(Runnable::run));
+    }
+
+    public void ownerChangedAfterCommit(String previousOwnerLegalName, String newOwnerLegalName) {
+        OwnerType previousOwnerType = OwnerType.of(previousOwnerLegalName);
+        OwnerType newOwnerType = OwnerType.of(newOwnerLegalName);
+        if (previousOwnerType != newOwnerType) {
+            TransactionUtil.runAfterCommit(() -> counters.changeOwnerType(previousOwnerType, newOwnerType));
+        }
+    }
+
+    public VehicleStatisticsResponse snapshot() {
+        return counters.snapshot();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${vehicle.stats.reconcile-interval:PT10M}", fixedDelayString = "${vehicle.stats.reconcile-interval:PT10M}")
+    public void reconcile() {
+        Counters reconciled = new Counters(LocalDateTime.now());
+        jdbcTemplate.query(COUNT_ACTIVE_VEHICLES_SQL, rs -> {
+            reconciled.add(rs.getString("make"), rs.getString("model"), rs.getInt("vehicle_year"),
+                    rs.getBoolean("legal_owner") ? OwnerType.LEGAL_ENTITY : OwnerType.NATURAL_PERSON, rs.getLong("vehicles"));
+        });
+        long drift = reconciled.total.sum() - counters.total.sum();
+        counters = reconciled;
+        logger.info("Vehicle statistics reconciled with the database. Active vehicles: {}, drift: {}", reconciled.total.sum(), drift);
+    }
+
+    private record MakeModel(String make, String model) {
+    }
+
+    private static final class Counters {
+
+        private final LocalDateTime reconciledAt;
+
+        private final LongAdder total = new LongAdder();
+
+        private final ConcurrentMap<String, LongAdder> byMake = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<MakeModel, LongAdder> byModel = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<Integer, LongAdder> byYear = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<OwnerType, LongAdder> byOwnerType = new ConcurrentHashMap<>();
+
+        private Counters(LocalDateTime reconciledAt) {
+            this.reconciledAt = reconciledAt;
+        }
+
+        private void add(String make, String model, Integer year, OwnerType ownerType, long delta) {
+            total.add(delta);
+            byMake.computeIfAbsent(make, key -> new LongAdder()).add(delta);
+            byModel.computeIfAbsent(new MakeModel(make, model), key -> new LongAdder()).add(delta);
+            byYear.computeIfAbsent(year, key -> new LongAdder()).add(delta);
+            byOwnerType.computeIfAbsent(ownerType, key -> new LongAdder()).add(delta);
+        }
+
+        private void changeOwnerType(OwnerType previousOwnerType, OwnerType newOwnerType) {
+            byOwnerType.computeIfAbsent(previousOwnerType, key -> new LongAdder()).decrement();
+            byOwnerType.computeIfAbsent(newOwnerType, key -> new LongAdder()).increment();
+        }
+
+        private VehicleStatisticsResponse snapshot() {
+            Map<String, Map<String, Long>> models = new TreeMap<>();
+            byModel.forEach((makeModel, count) -> {
+                long value = count.sum();
+                if (value > 0) {
+                    models.computeIfAbsent(makeModel.make(), key -> new TreeMap<>()).put(makeModel.model(), value);
+                }
+            });
+            return new VehicleStatisticsResponse(total.sum(), positive(byMake), models, positive(byYear), positive(byOwnerType), reconciledAt);
+        }
+
+        private static <K> Map<K, Long> positive(Map<K, LongAdder> counts) {
+            Map<K, Long> result = new TreeMap<>();
+            counts.forEach((key, count) -> {
+                long value = count.sum();
+                if (value > 0) {
+                    result.put(key, value);
+                }
+            });
+            return result;
+        }
+    }
+}
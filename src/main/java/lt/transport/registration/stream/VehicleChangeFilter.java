@@ -0,0 +1,18 @@
+package lt.transport.registration.stream;
+
+import lt.transport.registration.dto.VehicleChangeEventResponse;
+import lt.transport.registration.util.PlateNoUtil;
+
+public record VehicleChangeFilter(Long vehicleId, String plateKey, String ownerCode) {
+
+    public static VehicleChangeFilter of(Long vehicleId, String plateNo, String ownerCode) {
+        return new VehicleChangeFilter(vehicleId, plateNo != null && !plateNo.isBlank() ? PlateNoUtil.toPlateKey(plateNo) : null,
+                ownerCode != null && !ownerCode.isBlank() ? ownerCode : null);
+    }
+
+    public boolean matches(VehicleChangeEventResponse change) {
+        return (vehicleId == null || vehicleId.equals(change.vehicleId()))
+                && (plateKey == null || plateKey.equals(PlateNoUtil.toPlateKey(change.plateNo())))
+                && (ownerCode == null || ownerCode.equals(change.ownerCode()));
+    }
+}
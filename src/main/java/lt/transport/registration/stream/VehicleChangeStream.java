@@ -0,0 +1,223 @@
+package lt.transport.registration.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lt.transport.registration.dto.VehicleChangeEventResponse;
+import lt.transport.registration.repository.VehicleChangeEventRepository;
+import lt.transport.registration.service.VehicleChangeService;
+import lt.transport.registration.util.TransactionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed vehicle changes to SSE subscribers. Writers call {@link #publishAfterCommit()} once their
+ * outbox events are written; a single dispatching thread then reads the new events from the outbox and queues
+ * them for every matching subscriber. Events are read the way the change feed reads them, so the dispatcher
+ * stops before changes a slower transaction may still precede with a lower id and looks again every
+ * {@link #DISPATCH_RETRY_DELAY} until they are published. Nothing is read while nobody is subscribed.
+ */
+@Component
+public class VehicleChangeStream {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        DISCONNECT
+    }
+
+    private static final int DISPATCH_BATCH_SIZE = 500;
+
+    private static final Duration DISPATCH_RETRY_DELAY = Duration.ofSeconds(1);
+
+    private static final Logger logger = LoggerFactory.getLogger(VehicleChangeStream.class);
+
+    private final VehicleChangeEventRepository vehicleChangeEventRepository;
+
+    private final VehicleChangeService vehicleChangeService;
+
+    private final int bufferSize;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Duration timeout;
+
+    private final List<VehicleChangeSubscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private final ScheduledExecutorService dispatchExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("vehicle-change-dispatch").daemon().factory());
+
+    private final ExecutorService sendExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("vehicle-change-send-", 0).factory());
+
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+
+    private final Counter droppedChanges;
+
+    private final Counter disconnectedSubscribers;
+
+    private long lastDispatchedId;
+
+    private boolean dispatchRetryScheduled;
+
+    @Autowired
+    public VehicleChangeStream(VehicleChangeEventRepository vehicleChangeEventRepository, VehicleChangeService vehicleChangeService,
+                               @Value("${vehicle.stream.buffer-size:256}") int bufferSize,
+                               @Value("${vehicle.stream.overflow-policy:DISCONNECT}") OverflowPolicy overflowPolicy,
+                               @Value("${vehicle.stream.timeout:PT30M}") Duration timeout,
+                               MeterRegistry meterRegistry) {
+        this.vehicleChangeEventRepository = vehicleChangeEventRepository;
+        this.vehicleChangeService = vehicleChangeService;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.timeout = timeout;
+        meterRegistry.gauge("vehicle.stream.subscribers", subscribers, List::size);
+        this.droppedChanges = meterRegistry.counter("vehicle.stream.dropped");
+        this.disconnectedSubscribers = meterRegistry.counter("vehicle.stream.slow.disconnects");
+    }
+
+    /**
+     * Opens a stream of changes matching the filter. With {@code lastEventId} the changes after it are replayed
+     * from the outbox first, so a client that reconnects does not miss what happened in between. Without it the
+     * stream starts after the newest change.
+     */
+    public SseEmitter subscribe(VehicleChangeFilter filter, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        dispatchExecutor.execute(() -> {
+            if (subscribers.isEmpty()) {
+                lastDispatchedId = vehicleChangeEventRepository.findMaxId();
+            }
+            VehicleChangeSubscriber subscriber = new VehicleChangeSubscriber(emitter, filter, bufferSize, overflowPolicy, sendExecutor,
+                    lastEventId != null ? lastEventId : lastDispatchedId);
+            emitter.onCompletion(() -> remove(subscriber));
+            emitter.onTimeout(subscriber::close);
+            emitter.onError(ex -> subscriber.close());
+            if (lastEventId != null) {
+                sendExecutor.execute(() -> replay(subscriber, lastEventId));
+            } else if (!subscriber.isClosed()) {
+                subscribers.add(subscriber);
+                logger.info("Change stream subscriber connected with {}. Subscribers: {}", filter, subscribers.size());
+            }
+        });
+        return emitter;
+    }
+
+    public void publishAfterCommit() {
+        TransactionUtil.runAfterCommit(this::requestDispatch);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+        subscribers.forEach(VehicleChangeSubscriber::close);
+        sendExecutor.shutdown();
+    }
+
+    private void requestDispatch() {
+        if (!subscribers.isEmpty() && !dispatchRequested.getAndSet(true)) {
+            dispatchExecutor.execute(this::dispatch);
+        }
+    }
+
+    private void dispatch() {
+        dispatchRequested.set(false);
+        try {
+            if (subscribers.isEmpty()) {
+                return;
+            }
+            List<VehicleChangeEventResponse> changes;
+            do {
+                changes = vehicleChangeService.findPublishedChangesAfter(lastDispatchedId, DISPATCH_BATCH_SIZE);
+                for (VehicleChangeEventResponse change : changes) {
+                    subscribers.forEach(subscriber -> deliver(subscriber, change));
+                    lastDispatchedId = change.changeId();
+                }
+            } while (changes.size() == DISPATCH_BATCH_SIZE);
+            if (!dispatchRetryScheduled && vehicleChangeEventRepository.existsByIdGreaterThan(lastDispatchedId)) {
+                dispatchRetryScheduled = true;
+                dispatchExecutor.schedule(this::retryDispatch, DISPATCH_RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Failed to dispatch vehicle changes after change ID {}", lastDispatchedId, ex);
+        }
+    }
+
+    private void retryDispatch() {
+        dispatchRetryScheduled = false;
+        dispatch();
+    }
+
+    /**
+     * Sends the changes after {@code afterId} to a reconnecting subscriber on its own task, one page at a time and
+     * only as fast as the client reads them, then hands the subscriber to the dispatching thread.
+     */
+    private void replay(VehicleChangeSubscriber subscriber, long afterId) {
+        long lastReplayedId = afterId;
+        try {
+            List<VehicleChangeEventResponse> changes;
+            do {
+                changes = vehicleChangeService.findPublishedChangesAfter(lastReplayedId, DISPATCH_BATCH_SIZE);
+                for (VehicleChangeEventResponse change : changes) {
+                    if (!subscriber.replay(change)) {
+                        return;
+                    }
+                    lastReplayedId = change.changeId();
+                }
+            } while (changes.size() == DISPATCH_BATCH_SIZE);
+        } catch (RuntimeException ex) {
+            logger.error("Failed to replay vehicle changes after change ID {}", lastReplayedId, ex);
+            subscriber.close();
+            return;
+        }
+        long replayedId = lastReplayedId;
+        boolean progressed = replayedId > afterId;
+        dispatchExecutor.execute(() -> connectReplayed(subscriber, replayedId, progressed));
+    }
+
+    /**
+     * Starts dispatching to a subscriber whose replay ended at {@code replayedId}. If more changes than its buffer
+     * holds were written in the meantime, they are replayed first as well, so the dispatcher does not overflow it.
+     */
+    private void connectReplayed(VehicleChangeSubscriber subscriber, long replayedId, boolean progressed) {
+        if (subscriber.isClosed()) {
+            return;
+        }
+        if (subscribers.isEmpty()) {
+            lastDispatchedId = vehicleChangeEventRepository.findMaxId();
+        }
+        if (progressed && lastDispatchedId - replayedId > bufferSize) {
+            sendExecutor.execute(() -> replay(subscriber, replayedId));
+            return;
+        }
+        lastDispatchedId = Math.min(lastDispatchedId, replayedId);
+        subscribers.add(subscriber);
+        logger.info("Change stream subscriber connected after replay. Subscribers: {}", subscribers.size());
+        dispatch();
+    }
+
+    private void deliver(VehicleChangeSubscriber subscriber, VehicleChangeEventResponse change) {
+        int dropped = subscriber.offer(change);
+        if (dropped > 0) {
+            droppedChanges.increment(dropped);
+        } else if (dropped < 0) {
+            disconnectedSubscribers.increment();
+            remove(subscriber);
+        }
+    }
+
+    private void remove(VehicleChangeSubscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            logger.info("Change stream subscriber disconnected. Subscribers: {}", subscribers.size());
+        }
+    }
+}
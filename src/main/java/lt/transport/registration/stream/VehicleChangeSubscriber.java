@@ -0,0 +1,162 @@
+package lt.transport.registration.stream;
+
+import lt.transport.registration.dto.VehicleChangeEventResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One SSE connection. Changes are queued by the dispatching thread and written to the client by a task of its own,
+ * so a slow client only ever fills its own bounded buffer. Changes replayed after a reconnect bypass the buffer and
+ * are written directly by the replaying task before the subscriber is handed to the dispatching thread.
+ */
+class VehicleChangeSubscriber {
+
+    static final String CHANGE_EVENT_NAME = "vehicle-change";
+
+    static final String DROPPED_EVENT_NAME = "dropped";
+
+    private static final Logger logger = LoggerFactory.getLogger(VehicleChangeSubscriber.class);
+
+    private final SseEmitter emitter;
+
+    private final VehicleChangeFilter filter;
+
+    private final BlockingQueue<VehicleChangeEventResponse> buffer;
+
+    private final VehicleChangeStream.OverflowPolicy overflowPolicy;
+
+    private final Executor sendExecutor;
+
+    private final AtomicBoolean sending = new AtomicBoolean();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private long lastQueuedId;
+
+    VehicleChangeSubscriber(SseEmitter emitter, VehicleChangeFilter filter, int bufferSize, VehicleChangeStream.OverflowPolicy overflowPolicy,
+                            Executor sendExecutor, long lastQueuedId) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.overflowPolicy = overflowPolicy;
+        this.sendExecutor = sendExecutor;
+        this.lastQueuedId = lastQueuedId;
+    }
+
+    /**
+     * Writes a missed change to the client, waiting for it to be sent, so a long backlog is never dropped for
+     * overflowing the buffer. Only called by the replaying task, before the subscriber is dispatched to.
+     *
+     * @return false if the client has gone away
+     */
+    boolean replay(VehicleChangeEventResponse change) {
+        if (closed.get()) {
+            return false;
+        }
+        if (change.changeId() <= lastQueuedId) {
+            return true;
+        }
+        lastQueuedId = change.changeId();
+        if (!filter.matches(change)) {
+            return true;
+        }
+        try {
+            sendChange(change);
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            failed(ex);
+            return false;
+        }
+    }
+
+    /**
+     * Queues a change for this client. Only ever called from the dispatching thread.
+     *
+     * @return how many changes were dropped to make room, or -1 if the client was disconnected as too slow
+     */
+    int offer(VehicleChangeEventResponse change) {
+        if (closed.get() || change.changeId() <= lastQueuedId) {
+            return 0;
+        }
+        lastQueuedId = change.changeId();
+        if (!filter.matches(change)) {
+            return 0;
+        }
+        int droppedNow = 0;
+        while (!buffer.offer(change)) {
+            if (overflowPolicy == VehicleChangeStream.OverflowPolicy.DISCONNECT) {
+                logger.warn("Disconnecting slow change stream subscriber after buffering {} changes", buffer.size());
+                close();
+                return -1;
+            }
+            if (buffer.poll() != null) {
+                droppedNow++;
+            }
+        }
+        dropped.addAndGet(droppedNow);
+        scheduleSend();
+        return droppedNow;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+
+    private void scheduleSend() {
+        if (sending.compareAndSet(false, true)) {
+            sendExecutor.execute(this::send);
+        }
+    }
+
+    private void send() {
+        try {
+            long droppedSinceLastSend = dropped.getAndSet(0);
+            if (droppedSinceLastSend > 0) {
+                emitter.send(SseEmitter.event().name(DROPPED_EVENT_NAME).data(droppedSinceLastSend));
+            }
+            VehicleChangeEventResponse change;
+            while (!closed.get() && (change = buffer.poll()) != null) {
+                sendChange(change);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            failed(ex);
+        } finally {
+            sending.set(false);
+            if (!closed.get() && (!buffer.isEmpty() || dropped.get() > 0)) {
+                scheduleSend();
+            }
+        }
+    }
+
+    private void sendChange(VehicleChangeEventResponse change) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(change.changeId()))
+                .name(CHANGE_EVENT_NAME)
+                .data(change, MediaType.APPLICATION_JSON));
+    }
+
+    private void failed(Exception ex) {
+        logger.debug("Change stream subscriber went away: {}", ex.getMessage());
+        closed.set(true);
+        buffer.clear();
+        emitter.completeWithError(ex);
+    }
+}
@@ -0,0 +1,36 @@
+package lt.transport.registration.util;
+
+import lt.transport.registration.exception.VehicleVersionMismatchException;
+
+import static lt.transport.registration.constants.ResponseMessages.INVALID_IF_MATCH;
+
+public final class ETagUtil {
+
+    private ETagUtil() {
+    }
+
+    public static String toETag(Long version) {
+        if (version == null) {
+            return null;
+        }
+        return "\"" + version + "\"";
+    }
+
+    public static Long toVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String eTag = ifMatch.trim();
+        if (eTag.startsWith("W/")) {
+            eTag = eTag.substring(2);
+        }
+        if (eTag.length() > 1 && eTag.startsWith("\"") && eTag.endsWith("\"")) {
+            eTag = eTag.substring(1, eTag.length() - 1);
+        }
+        try {
+            return Long.valueOf(eTag);
+        } catch (NumberFormatException ex) {
+            throw new VehicleVersionMismatchException(INVALID_IF_MATCH);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package lt.transport.registration.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lt.transport.registration.exception.InvalidPageCursorException;
+import lt.transport.registration.exception.PageCursorEncodingException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static lt.transport.registration.constants.ResponseMessages.INVALID_PAGE_CURSOR;
+
+public record PageCursor(String sortBy, Sort.Direction direction, Map<String, Object> keys) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    public static PageCursor of(String sortBy, Sort.Direction direction, Object lastElement) {
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(lastElement);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortBy, wrapper.getPropertyValue(sortBy));
+        keys.put("id", wrapper.getPropertyValue("id"));
+        return new PageCursor(sortBy, direction, keys);
+    }
+
+    public static PageCursor of(String sortBy, Sort.Direction direction, KeysetScrollPosition position) {
+        return new PageCursor(sortBy, direction, new LinkedHashMap<>(position.getKeys()));
+    }
+
+    public static PageCursor decode(String token, Class<?> entityType) {
+        PageCursor cursor;
+        try {
+            cursor = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(token), PageCursor.class);
+        } catch (IllegalArgumentException | IOException ex) {
+            throw new InvalidPageCursorException(INVALID_PAGE_CURSOR);
+        }
+        if (cursor.sortBy() == null || cursor.direction() == null || cursor.keys() == null
+                || BeanUtils.getPropertyDescriptor(entityType, cursor.sortBy()) == null) {
+            throw new InvalidPageCursorException(INVALID_PAGE_CURSOR);
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> key : cursor.keys().entrySet()) {
+            PropertyDescriptor property = BeanUtils.getPropertyDescriptor(entityType, key.getKey());
+            if (property == null || key.getValue() == null) {
+                throw new InvalidPageCursorException(INVALID_PAGE_CURSOR);
+            }
+            try {
+                keys.put(key.getKey(), OBJECT_MAPPER.convertValue(key.getValue(), property.getPropertyType()));
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidPageCursorException(INVALID_PAGE_CURSOR);
+            }
+        }
+        return new PageCursor(cursor.sortBy(), cursor.direction(), keys);
+    }
+
+    public String encode() {
+        if (keys.values().stream().anyMatch(Objects::isNull)) {
+            throw new PageCursorEncodingException("Cannot encode a page cursor with a null key: " + keys);
+        }
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(this));
+        } catch (JsonProcessingException ex) {
+            throw new PageCursorEncodingException("Cannot encode a page cursor: " + keys, ex);
+        }
+    }
+
+    public Sort toSort() {
+        return Sort.by(direction, sortBy);
+    }
+
+    public ScrollPosition toScrollPosition() {
+        return ScrollPosition.forward(keys);
+    }
+}
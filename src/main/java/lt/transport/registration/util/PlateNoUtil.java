@@ -0,0 +1,43 @@
+package lt.transport.registration.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class PlateNoUtil {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s\\-]+");
+
+    private static final String PLATE_KEY_CONSTRAINT = "plate_key";
+
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    private PlateNoUtil() {
+    }
+
+    public static String toPlateKey(String plateNo) {
+        if (plateNo == null) {
+            return null;
+        }
+        return SEPARATORS.matcher(plateNo).replaceAll("").toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Tells whether a write failed because another active vehicle already holds the plate key. Hibernate reports the
+     * violated constraint by name; plain JDBC writes only carry the unique-violation SQL state and the driver message.
+     */
+    public static boolean isPlateKeyViolation(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(PLATE_KEY_CONSTRAINT);
+            }
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return sqlException.getMessage() != null && sqlException.getMessage().toLowerCase(Locale.ROOT).contains(PLATE_KEY_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+}
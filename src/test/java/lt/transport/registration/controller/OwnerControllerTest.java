@@ -0,0 +1,51 @@
+package lt.transport.registration.controller;
+
+import lt.transport.registration.config.TestMeterRegistryConfig;
+import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
+import lt.transport.registration.dto.VehicleRegistrationPageResponse;
+import lt.transport.registration.mapper.VehicleRegistrationMapper;
+import lt.transport.registration.service.VehicleRegistrationService;
+import lt.transport.registration.util.TestDataUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OwnerController.class)
+@Import(TestMeterRegistryConfig.class)
+public class OwnerControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VehicleRegistrationService vehicleRegistrationService;
+
+    @Test
+    void testGetOwnerVehicles() throws Exception {
+        VehicleRegistrationDetailsResponse vehicle = VehicleRegistrationMapper.INSTANCE.toDto(TestDataUtil.getNaturalPersonVehicleRegistration());
+        when(vehicleRegistrationService.findVehicleRegistrationsByOwnerCode("39601010000", "cursor", 5))
+                .thenReturn(new VehicleRegistrationPageResponse(List.of(vehicle), null, 5, null, null, "next"));
+
+        mockMvc.perform(get("/owners/{ownerCode}/vehicles", "39601010000")
+                        .param("size", "5")
+                        .param("after", "cursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].vehicleId").value(1))
+                .andExpect(jsonPath("$.content[0].ownerCode").value("39601010000"))
+                .andExpect(jsonPath("$.pageSize").value(5))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(vehicleRegistrationService).findVehicleRegistrationsByOwnerCode("39601010000", "cursor", 5);
+    }
+}
@@ -0,0 +1,78 @@
+package lt.transport.registration.controller;
+
+import lt.transport.registration.config.TestMeterRegistryConfig;
+import lt.transport.registration.dto.ArchivedVehicleRegistrationResponse;
+import lt.transport.registration.dto.VehicleOwnershipHistoryResponse;
+import lt.transport.registration.exception.VehicleNotFoundException;
+import lt.transport.registration.service.VehicleArchiveService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static lt.transport.registration.constants.ResponseMessages.ARCHIVED_VEHICLE_NOT_FOUND;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(VehicleArchiveController.class)
+@Import(TestMeterRegistryConfig.class)
+public class VehicleArchiveControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VehicleArchiveService vehicleArchiveService;
+
+    @Test
+    void testGetArchivedVehicleRegistration() throws Exception {
+        LocalDateTime archivedAt = LocalDateTime.of(2025, 1, 15, 10, 0);
+        when(vehicleArchiveService.findArchivedVehicleRegistrationById(1L)).thenReturn(archivedVehicleRegistration(1L, archivedAt));
+
+        mockMvc.perform(get("/vehicles/archive/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehicleId").value(1))
+                .andExpect(jsonPath("$.plateNo").value("abc123"))
+                .andExpect(jsonPath("$.ownershipHistory[0].ownerName").value("Jonas"));
+
+        verify(vehicleArchiveService).findArchivedVehicleRegistrationById(1L);
+    }
+
+    @Test
+    void testGetArchivedVehicleRegistration_withUnknownId_shouldReturnNotFound() throws Exception {
+        when(vehicleArchiveService.findArchivedVehicleRegistrationById(1L))
+                .thenThrow(new VehicleNotFoundException(String.format(ARCHIVED_VEHICLE_NOT_FOUND, 1)));
+
+        mockMvc.perform(get("/vehicles/archive/1"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(String.format(ARCHIVED_VEHICLE_NOT_FOUND, 1)))
+                .andExpect(jsonPath("$.statusCode").value(404));
+    }
+
+    @Test
+    void testGetArchivedVehicleRegistrationsByPlateNo() throws Exception {
+        LocalDateTime archivedAt = LocalDateTime.of(2025, 1, 15, 10, 0);
+        when(vehicleArchiveService.findArchivedVehicleRegistrationsByPlateNo("ABC123")).thenReturn(List.of(
+                archivedVehicleRegistration(2L, archivedAt.plusDays(1)), archivedVehicleRegistration(1L, archivedAt)));
+
+        mockMvc.perform(get("/vehicles/archive").param("plateNo", "ABC123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].vehicleId").value(2))
+                .andExpect(jsonPath("$[1].vehicleId").value(1));
+    }
+
+    private ArchivedVehicleRegistrationResponse archivedVehicleRegistration(Long vehicleId, LocalDateTime archivedAt) {
+        return new ArchivedVehicleRegistrationResponse(vehicleId, "abc123", "Toyota", "Corolla", 2020, "Petras", "Petraitis",
+                null, "39001010000", archivedAt, List.of(new VehicleOwnershipHistoryResponse(
+                        1L, "Jonas", "Petrauskas", null, "39601010000", archivedAt.minusDays(1))));
+    }
+}
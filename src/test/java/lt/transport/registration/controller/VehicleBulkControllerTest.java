@@ -0,0 +1,220 @@
+package lt.transport.registration.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.config.TestMeterRegistryConfig;
+import lt.transport.registration.dto.ExportFormat;
+import lt.transport.registration.dto.VehicleBulkDeleteRequest;
+import lt.transport.registration.dto.VehicleBulkDeleteResponse;
+import lt.transport.registration.dto.VehicleBulkRegistrationResponse;
+import lt.transport.registration.dto.VehicleBulkRegistrationResult;
+import lt.transport.registration.dto.VehicleBulkTransferOwnerRequest;
+import lt.transport.registration.dto.VehicleBulkTransferOwnerResponse;
+import lt.transport.registration.dto.VehicleBulkTransferOwnerResult;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.service.VehicleBulkService;
+import lt.transport.registration.service.VehicleExportService;
+import lt.transport.registration.util.TestDataUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static lt.transport.registration.constants.ResponseMessages.BULK_DELETE_CRITERIA_REQUIRED;
+import static lt.transport.registration.constants.ResponseMessages.PLATE_NO_ALREADY_EXISTS;
+import static lt.transport.registration.constants.ResponseMessages.UNSUPPORTED_EXPORT_FORMAT;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_NOT_FOUND;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_OWNER_TRANSFERRED;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_REGISTERED_SUCCESSFULLY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@WebMvcTest(VehicleBulkController.class)
+@Import(TestMeterRegistryConfig.class)
+public class VehicleBulkControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VehicleBulkService vehicleBulkService;
+
+    @MockBean
+    private VehicleExportService vehicleExportService;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void setUp() {
+        objectMapper = new ObjectMapper();
+    }
+
+    @Test
+    void testRegisterVehicles_withJsonArray_shouldReturnResults() throws Exception {
+        List<VehicleRegistrationRequest> requests = List.of(
+                TestDataUtil.getNaturalPersonVehicleRegistrationRequest(),
+                TestDataUtil.getLegalEntityVehicleRegistrationRequest());
+        when(vehicleBulkService.registerVehicles(any())).thenAnswer(invocation -> {
+            Iterator<VehicleRegistrationRequest> iterator = invocation.getArgument(0);
+            List<VehicleRegistrationRequest> received = new ArrayList<>();
+            iterator.forEachRemaining(received::add);
+            assertEquals(requests, received);
+            return new VehicleBulkRegistrationResponse(1, 1, List.of(
+                    new VehicleBulkRegistrationResult(0, "ABC123", true, 1L, VEHICLE_REGISTERED_SUCCESSFULLY),
+                    new VehicleBulkRegistrationResult(1, "BCD456", false, null, PLATE_NO_ALREADY_EXISTS)));
+        });
+
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(1))
+                .andExpect(jsonPath("$.rejectedCount").value(1))
+                .andExpect(jsonPath("$.results[0].vehicleId").value(1))
+                .andExpect(jsonPath("$.results[0].message").value(VEHICLE_REGISTERED_SUCCESSFULLY))
+                .andExpect(jsonPath("$.results[1].registered").value(false))
+                .andExpect(jsonPath("$.results[1].message").value(PLATE_NO_ALREADY_EXISTS));
+    }
+
+    @Test
+    void testRegisterVehicles_withNdjson_shouldReadEveryLine() throws Exception {
+        List<VehicleRegistrationRequest> requests = List.of(
+                TestDataUtil.getNaturalPersonVehicleRegistrationRequest(),
+                TestDataUtil.getLegalEntityVehicleRegistrationRequest());
+        StringBuilder content = new StringBuilder();
+        for (VehicleRegistrationRequest request : requests) {
+            content.append(objectMapper.writeValueAsString(request)).append('\n');
+        }
+        List<VehicleRegistrationRequest> received = new ArrayList<>();
+        when(vehicleBulkService.registerVehicles(any())).thenAnswer(invocation -> {
+            Iterator<VehicleRegistrationRequest> iterator = invocation.getArgument(0);
+            iterator.forEachRemaining(received::add);
+            return new VehicleBulkRegistrationResponse(received.size(), 0, List.of());
+        });
+
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType("application/x-ndjson")
+                        .content(content.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(2))
+                .andExpect(jsonPath("$.rejectedCount").value(0));
+
+        verify(vehicleBulkService).registerVehicles(any());
+        assertEquals(requests, received);
+    }
+
+    @Test
+    void testRegisterVehicles_withMalformedBody_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{not-json"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testTransferOwners_shouldReturnResultPerItem() throws Exception {
+        List<VehicleBulkTransferOwnerRequest> requests = List.of(
+                new VehicleBulkTransferOwnerRequest(1L, "Petras", "Petraitis", null, "39601010000"),
+                new VehicleBulkTransferOwnerRequest(99L, "Petras", "Petraitis", null, "39601010000"));
+        when(vehicleBulkService.transferOwners(requests)).thenReturn(new VehicleBulkTransferOwnerResponse(1, 1, List.of(
+                new VehicleBulkTransferOwnerResult(0, 1L, true, VEHICLE_OWNER_TRANSFERRED),
+                new VehicleBulkTransferOwnerResult(1, 99L, false, String.format(VEHICLE_NOT_FOUND, 99L)))));
+
+        mockMvc.perform(post("/vehicles/transfer-owner/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transferredCount").value(1))
+                .andExpect(jsonPath("$.rejectedCount").value(1))
+                .andExpect(jsonPath("$.results[0].message").value(VEHICLE_OWNER_TRANSFERRED))
+                .andExpect(jsonPath("$.results[1].transferred").value(false))
+                .andExpect(jsonPath("$.results[1].message").value(String.format(VEHICLE_NOT_FOUND, 99L)));
+
+        verify(vehicleBulkService).transferOwners(requests);
+    }
+
+    @Test
+    void testDeleteVehicles_withVehicleIds_shouldReturnDeletedCount() throws Exception {
+        VehicleBulkDeleteRequest deleteRequest = new VehicleBulkDeleteRequest(List.of(1L, 2L, 3L), null);
+        when(vehicleBulkService.deleteVehicles(deleteRequest)).thenReturn(new VehicleBulkDeleteResponse(2));
+
+        mockMvc.perform(delete("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(deleteRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(2));
+
+        verify(vehicleBulkService).deleteVehicles(deleteRequest);
+    }
+
+    @Test
+    void testDeleteVehicles_withBothOrNoCriteria_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(delete("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new VehicleBulkDeleteRequest(List.of(1L), "39601010000"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(BULK_DELETE_CRITERIA_REQUIRED));
+        mockMvc.perform(delete("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new VehicleBulkDeleteRequest(List.of(), " "))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(BULK_DELETE_CRITERIA_REQUIRED));
+
+        verifyNoInteractions(vehicleBulkService);
+    }
+
+    @Test
+    void testExportVehicles_withCsvFormat_shouldStreamServiceOutput() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("vehicleId,plateNo\n1,abc123\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(vehicleExportService).exportVehicleRegistrations(eq(ExportFormat.CSV), any());
+
+        MvcResult mvcResult = mockMvc.perform(get("/vehicles/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"vehicles.csv\""))
+                .andExpect(content().string("vehicleId,plateNo\n1,abc123\n"));
+    }
+
+    @Test
+    void testExportVehicles_withUnsupportedFormat_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/vehicles/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(String.format(UNSUPPORTED_EXPORT_FORMAT, "xml")));
+
+        verifyNoInteractions(vehicleExportService);
+    }
+}
@@ -0,0 +1,52 @@
+package lt.transport.registration.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.config.TestMeterRegistryConfig;
+import lt.transport.registration.dto.VehicleLookupRequest;
+import lt.transport.registration.dto.VehicleLookupResponse;
+import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
+import lt.transport.registration.service.VehicleLookupService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(VehicleLookupController.class)
+@Import(TestMeterRegistryConfig.class)
+public class VehicleLookupControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VehicleLookupService vehicleLookupService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testLookupVehicleRegistrations() throws Exception {
+        VehicleRegistrationDetailsResponse details = new VehicleRegistrationDetailsResponse(1L, "abc123", "Toyota", "Corolla", 2020,
+                "Jonas", "Petrauskas", null, "39601010000", 0L, LocalDateTime.of(2025, 1, 15, 10, 0));
+        when(vehicleLookupService.lookupVehicles(any())).thenReturn(new VehicleLookupResponse(List.of(details), List.of(2L), List.of("XYZ789")));
+
+        mockMvc.perform(post("/vehicles/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new VehicleLookupRequest(List.of(1L, 2L), List.of("XYZ789")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehicles[0].vehicleId").value(1))
+                .andExpect(jsonPath("$.notFoundVehicleIds[0]").value(2))
+                .andExpect(jsonPath("$.notFoundPlateNos[0]").value("XYZ789"));
+    }
+}
@@ -1,33 +1,54 @@
 package lt.transport.registration.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.cache.VehicleRegistryVersion;
+import lt.transport.registration.config.TestMeterRegistryConfig;
 import lt.transport.registration.dto.TransferOwnerRequest;
+import lt.transport.registration.dto.VehicleOwnershipHistoryPageResponse;
+import lt.transport.registration.dto.VehicleOwnershipHistoryResponse;
 import lt.transport.registration.dto.VehicleRegistrationPageResponse;
 import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.dto.VehicleSearchFilter;
 import lt.transport.registration.entity.VehicleRegistration;
 import lt.transport.registration.exception.PlateNoAlreadyExistsException;
 import lt.transport.registration.exception.VehicleNotFoundException;
+import lt.transport.registration.exception.VehicleVersionMismatchException;
 import lt.transport.registration.mapper.VehicleRegistrationMapper;
 import lt.transport.registration.service.VehicleRegistrationService;
 import lt.transport.registration.util.TestDataUtil;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static lt.transport.registration.constants.ResponseMessages.CONCURRENT_VEHICLE_MODIFICATION;
+import static lt.transport.registration.constants.ResponseMessages.INVALID_IF_MATCH;
 import static lt.transport.registration.constants.ResponseMessages.PLATE_NO_ALREADY_EXISTS;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_DELETED;
 import static lt.transport.registration.constants.ResponseMessages.VEHICLE_NOT_FOUND;
 import static lt.transport.registration.constants.ResponseMessages.VEHICLE_OWNER_TRANSFERRED;
 import static lt.transport.registration.constants.ResponseMessages.VEHICLE_REGISTERED_SUCCESSFULLY;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_VERSION_MISMATCH;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_WITH_PLATE_NO_NOT_FOUND;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -35,11 +56,14 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @WebMvcTest(VehicleRegistrationController.class)
+@Import({VehicleRegistryVersion.class, TestMeterRegistryConfig.class})
 public class VehicleRegistrationControllerTest {
 
     @Autowired
@@ -105,6 +129,35 @@ public class VehicleRegistrationControllerTest {
         verify(vehicleRegistrationService).saveVehicleRegistration(any());
     }
 
+    @Test
+    void testRegisterVehicle_withPlateKeyConstraintViolation_shouldReturnBadRequest() throws Exception {
+        VehicleRegistrationRequest vehicleRegistrationRequest = TestDataUtil.getNaturalPersonVehicleRegistrationRequest();
+        when(vehicleRegistrationService.saveVehicleRegistration(any(VehicleRegistrationRequest.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate plate",
+                        new ConstraintViolationException("duplicate plate", new SQLException(), "PUBLIC.IDX_PLATE_KEY")));
+
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(vehicleRegistrationRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(PLATE_NO_ALREADY_EXISTS))
+                .andExpect(jsonPath("$.statusCode").value(400));
+    }
+
+    @Test
+    void testRegisterVehicle_withOtherConstraintViolation_shouldReturnInternalServerError() throws Exception {
+        VehicleRegistrationRequest vehicleRegistrationRequest = TestDataUtil.getNaturalPersonVehicleRegistrationRequest();
+        when(vehicleRegistrationService.saveVehicleRegistration(any(VehicleRegistrationRequest.class)))
+                .thenThrow(new DataIntegrityViolationException("owner code too long",
+                        new ConstraintViolationException("owner code too long", new SQLException(), null)));
+
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(vehicleRegistrationRequest)))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.statusCode").value(500));
+    }
+
     @Test
     void testGetVehicleRegistrationById() throws Exception {
         VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
@@ -137,15 +190,44 @@ public class VehicleRegistrationControllerTest {
         verify(vehicleRegistrationService).findVehicleRegistrationById(anyLong());
     }
 
+    @Test
+    void testGetVehicleRegistrationByPlateNo() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        when(vehicleRegistrationService.findVehicleRegistrationByPlateNo("ABC123")).thenReturn(VehicleRegistrationMapper.INSTANCE.toDto(vehicleRegistration));
+
+        mockMvc.perform(get("/vehicles/by-plate/{plateNo}", "ABC123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehicleId").value("1"))
+                .andExpect(jsonPath("$.plateNo").value("ABC123"))
+                .andExpect(jsonPath("$.ownerName").value("Jonas"))
+                .andExpect(jsonPath("$.ownerCode").value("39601010000"));
+
+        verify(vehicleRegistrationService).findVehicleRegistrationByPlateNo("ABC123");
+    }
+
+    @Test
+    void testGetVehicleRegistrationByPlateNoNotFound() throws Exception {
+        when(vehicleRegistrationService.findVehicleRegistrationByPlateNo("ABC123"))
+                .thenThrow(new VehicleNotFoundException(String.format(VEHICLE_WITH_PLATE_NO_NOT_FOUND, "ABC123")));
+
+        mockMvc.perform(get("/vehicles/by-plate/{plateNo}", "ABC123"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(String.format(VEHICLE_WITH_PLATE_NO_NOT_FOUND, "ABC123")))
+                .andExpect(jsonPath("$.statusCode").value(404));
+
+        verify(vehicleRegistrationService).findVehicleRegistrationByPlateNo("ABC123");
+    }
+
     @Test
     void testGetAllVehicleRegistrations() throws Exception {
         VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
-        when(vehicleRegistrationService.findAllVehicleRegistrations(0, 1, "plateNo", "ASC")).thenReturn(new VehicleRegistrationPageResponse(
+        when(vehicleRegistrationService.findAllVehicleRegistrations(0, 1, "plateNo", "ASC", true)).thenReturn(new VehicleRegistrationPageResponse(
                 List.of(VehicleRegistrationMapper.INSTANCE.toDto(vehicleRegistration)),
                 0,
                 1,
                 1,
-                1
+                1L,
+                null
         ));
 
         mockMvc.perform(get("/vehicles")
@@ -169,14 +251,97 @@ public class VehicleRegistrationControllerTest {
                 .andExpect(jsonPath("$.totalPages").value(1))
                 .andExpect(jsonPath("$.totalElements").value(1));
 
-        verify(vehicleRegistrationService).findAllVehicleRegistrations(anyInt(), anyInt(), any(), any());
+        verify(vehicleRegistrationService).findAllVehicleRegistrations(anyInt(), anyInt(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void testGetAllVehicleRegistrations_withCurrentETag_shouldReturnNotModifiedWithoutQuerying() throws Exception {
+        when(vehicleRegistrationService.findAllVehicleRegistrations(0, 10, "id", "ASC", true)).thenReturn(new VehicleRegistrationPageResponse(
+                List.of(VehicleRegistrationMapper.INSTANCE.toDto(TestDataUtil.getNaturalPersonVehicleRegistration())),
+                0,
+                10,
+                1,
+                1L,
+                null
+        ));
+
+        String eTag = mockMvc.perform(get("/vehicles"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/vehicles").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        verify(vehicleRegistrationService, times(1)).findAllVehicleRegistrations(0, 10, "id", "ASC", true);
+    }
+
+    @Test
+    void testGetAllVehicleRegistrations_withCursor_shouldScrollWithoutTotal() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        when(vehicleRegistrationService.scrollVehicleRegistrations("cursor", 1, false)).thenReturn(new VehicleRegistrationPageResponse(
+                List.of(VehicleRegistrationMapper.INSTANCE.toDto(vehicleRegistration)),
+                null,
+                1,
+                null,
+                null,
+                "nextCursor"
+        ));
+
+        mockMvc.perform(get("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("size", "1")
+                        .param("after", "cursor")
+                        .param("includeTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].vehicleId").value("1"))
+                .andExpect(jsonPath("$.content[0].plateNo").value("ABC123"))
+                .andExpect(jsonPath("$.currentPage").isEmpty())
+                .andExpect(jsonPath("$.pageSize").value(1))
+                .andExpect(jsonPath("$.totalPages").isEmpty())
+                .andExpect(jsonPath("$.totalElements").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"));
+
+        verify(vehicleRegistrationService).scrollVehicleRegistrations("cursor", 1, false);
+        verify(vehicleRegistrationService, times(0)).findAllVehicleRegistrations(anyInt(), anyInt(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void testGetAllVehicleRegistrations_withFilters_shouldSearch() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        VehicleSearchFilter filter = new VehicleSearchFilter("Toyota", null, 2015, 2021, "Petr", false);
+        when(vehicleRegistrationService.searchVehicleRegistrations(filter, 0, 10, "id", "ASC", null, true)).thenReturn(new VehicleRegistrationPageResponse(
+                List.of(VehicleRegistrationMapper.INSTANCE.toDto(vehicleRegistration)),
+                0,
+                10,
+                1,
+                1L,
+                null
+        ));
+
+        mockMvc.perform(get("/vehicles")
+                        .param("make", "Toyota")
+                        .param("yearFrom", "2015")
+                        .param("yearTo", "2021")
+                        .param("ownerSurname", "Petr")
+                        .param("hasLegalOwner", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].plateNo").value("ABC123"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+
+        verify(vehicleRegistrationService).searchVehicleRegistrations(filter, 0, 10, "id", "ASC", null, true);
+        verify(vehicleRegistrationService, times(0)).findAllVehicleRegistrations(anyInt(), anyInt(), any(), any(), anyBoolean());
     }
 
     @Test
     public void testTransferOwnerOfVehicleRegistration() throws Exception {
         VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
-        when(vehicleRegistrationService.transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any())).thenReturn(vehicleRegistration);
+        when(vehicleRegistrationService.transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any(), any())).thenReturn(vehicleRegistration);
 
         mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1L)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -185,13 +350,74 @@ public class VehicleRegistrationControllerTest {
                 .andExpect(jsonPath("$.message").value(VEHICLE_OWNER_TRANSFERRED))
                 .andExpect(jsonPath("$.vehicleId").value("1"));
 
-        verify(vehicleRegistrationService, times(1)).transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any());
+        verify(vehicleRegistrationService, times(1)).transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testTransferOwnerOfVehicleRegistration_withIfMatch_shouldPassVersionAndReturnETag() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setVersion(4L);
+        TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
+        when(vehicleRegistrationService.transferOwnerOfVehicleRegistration(eq(1L), any(), any(), any(), any(), eq(3L))).thenReturn(vehicleRegistration);
+
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(transferOwnerRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.message").value(VEHICLE_OWNER_TRANSFERRED));
+
+        verify(vehicleRegistrationService, times(1)).transferOwnerOfVehicleRegistration(eq(1L), any(), any(), any(), any(), eq(3L));
+    }
+
+    @Test
+    public void testTransferOwnerOfVehicleRegistration_withStaleVersion_shouldReturnPreconditionFailed() throws Exception {
+        TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
+        when(vehicleRegistrationService.transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any(), any()))
+                .thenThrow(new VehicleVersionMismatchException(String.format(VEHICLE_VERSION_MISMATCH, 4L)));
+
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(transferOwnerRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value(String.format(VEHICLE_VERSION_MISMATCH, 4L)))
+                .andExpect(jsonPath("$.statusCode").value(412));
+    }
+
+    @Test
+    public void testTransferOwnerOfVehicleRegistration_withInvalidIfMatch_shouldReturnPreconditionFailed() throws Exception {
+        TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
+
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"abc\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(transferOwnerRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value(INVALID_IF_MATCH));
+
+        verify(vehicleRegistrationService, times(0)).transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testTransferOwnerOfVehicleRegistration_withConcurrentModification_shouldReturnConflict() throws Exception {
+        TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
+        when(vehicleRegistrationService.transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any(), any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(VehicleRegistration.class, 1L));
+
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(transferOwnerRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(CONCURRENT_VEHICLE_MODIFICATION))
+                .andExpect(jsonPath("$.statusCode").value(409));
     }
 
     @Test
     public void testTransferOwner_OfVehicleRegistration_withInvalidState_ShouldReturnNotFound() throws Exception {
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
-        when(vehicleRegistrationService.transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any()))
+        when(vehicleRegistrationService.transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any(), any()))
                 .thenThrow(new IllegalStateException("message"));
 
         mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1L)
@@ -201,13 +427,13 @@ public class VehicleRegistrationControllerTest {
                 .andExpect(jsonPath("$.message").value("message"))
                 .andExpect(jsonPath("$.statusCode").value(404));
 
-        verify(vehicleRegistrationService, times(1)).transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any());
+        verify(vehicleRegistrationService, times(1)).transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any(), any());
     }
 
     @Test
     public void testTransferOwner_OfVehicleRegistration_withNoVehicleRegistration_ShouldReturnNotFound() throws Exception {
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
-        when(vehicleRegistrationService.transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any()))
+        when(vehicleRegistrationService.transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any(), any()))
                 .thenThrow(new VehicleNotFoundException(String.format(VEHICLE_NOT_FOUND, 1L)));
 
         mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1L)
@@ -217,30 +443,65 @@ public class VehicleRegistrationControllerTest {
                 .andExpect(jsonPath("$.message").value(String.format(VEHICLE_NOT_FOUND, 1)))
                 .andExpect(jsonPath("$.statusCode").value(404));
 
-        verify(vehicleRegistrationService, times(1)).transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any());
+        verify(vehicleRegistrationService, times(1)).transferOwnerOfVehicleRegistration(anyLong(), any(), any(), any(), any(), any());
     }
 
     @Test
     void testDeleteVehicleRegistration() throws Exception {
-        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
-        lenient().when(vehicleRegistrationService.deleteVehicleRegistration(anyLong()))
-                .thenReturn(vehicleRegistration);
-
         mockMvc.perform(delete("/vehicles/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(VEHICLE_DELETED))
+                .andExpect(jsonPath("$.vehicleId").value(1));
+
+        verify(vehicleRegistrationService, times(1)).deleteVehicleRegistration(any(), any());
+    }
+
+    @Test
+    void testDeleteVehicleRegistration_withIfMatch_shouldPassVersion() throws Exception {
+        mockMvc.perform(delete("/vehicles/1").header(HttpHeaders.IF_MATCH, "W/\"2\""))
                 .andExpect(status().isOk());
 
-        verify(vehicleRegistrationService, times(1)).deleteVehicleRegistration(any());
+        verify(vehicleRegistrationService, times(1)).deleteVehicleRegistration(1L, 2L);
     }
 
     @Test
     void testDelete_VehicleRegistration_withNotSavedVehicleRegistration_shouldReturnNotFound() throws Exception {
-        when(vehicleRegistrationService.deleteVehicleRegistration(1L)).thenThrow(new VehicleNotFoundException(String.format(VEHICLE_NOT_FOUND, 1)));
+        doThrow(new VehicleNotFoundException(String.format(VEHICLE_NOT_FOUND, 1)))
+                .when(vehicleRegistrationService).deleteVehicleRegistration(1L, null);
 
         mockMvc.perform(delete("/vehicles/1"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value(String.format(VEHICLE_NOT_FOUND, 1)))
                 .andExpect(jsonPath("$.statusCode").value(404));
 
-        verify(vehicleRegistrationService, times(1)).deleteVehicleRegistration(any());
+        verify(vehicleRegistrationService, times(1)).deleteVehicleRegistration(any(), any());
+    }
+
+    @Test
+    void testGetOwnershipHistory() throws Exception {
+        VehicleOwnershipHistoryResponse history = new VehicleOwnershipHistoryResponse(
+                2L, "Jonas", "Petrauskas", null, "39601010000", LocalDateTime.of(2025, 1, 15, 10, 0));
+        when(vehicleRegistrationService.findOwnershipHistory(1L, "cursor", 5))
+                .thenReturn(new VehicleOwnershipHistoryPageResponse(List.of(history), 5, "next"));
+
+        mockMvc.perform(get("/vehicles/{vehicleId}/ownership-history", 1L)
+                        .param("size", "5")
+                        .param("after", "cursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].historyId").value(2))
+                .andExpect(jsonPath("$.content[0].ownerName").value("Jonas"))
+                .andExpect(jsonPath("$.content[0].transferDate").value("2025-01-15T10:00:00"))
+                .andExpect(jsonPath("$.pageSize").value(5))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void testGetOwnershipHistory_withUnknownVehicle_shouldReturnNotFound() throws Exception {
+        when(vehicleRegistrationService.findOwnershipHistory(99L, null, 10))
+                .thenThrow(new VehicleNotFoundException(String.format(VEHICLE_NOT_FOUND, 99L)));
+
+        mockMvc.perform(get("/vehicles/{vehicleId}/ownership-history", 99L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(String.format(VEHICLE_NOT_FOUND, 99L)));
     }
 }
@@ -0,0 +1,45 @@
+package lt.transport.registration.controller;
+
+import lt.transport.registration.config.TestMeterRegistryConfig;
+import lt.transport.registration.dto.OwnerType;
+import lt.transport.registration.dto.VehicleStatisticsResponse;
+import lt.transport.registration.stats.VehicleStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(VehicleStatisticsController.class)
+@Import(TestMeterRegistryConfig.class)
+public class VehicleStatisticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VehicleStatistics vehicleStatistics;
+
+    @Test
+    void testGetVehicleStatistics() throws Exception {
+        when(vehicleStatistics.snapshot()).thenReturn(new VehicleStatisticsResponse(3, Map.of("Toyota", 3L),
+                Map.of("Toyota", Map.of("Corolla", 2L, "Yaris", 1L)), Map.of(2020, 3L),
+                Map.of(OwnerType.NATURAL_PERSON, 2L, OwnerType.LEGAL_ENTITY, 1L), LocalDateTime.of(2025, 1, 15, 10, 0)));
+
+        mockMvc.perform(get("/vehicles/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVehicles").value(3))
+                .andExpect(jsonPath("$.byModel.Toyota.Yaris").value(1))
+                .andExpect(jsonPath("$.byYear.2020").value(3))
+                .andExpect(jsonPath("$.byOwnerType.LEGAL_ENTITY").value(1));
+    }
+}
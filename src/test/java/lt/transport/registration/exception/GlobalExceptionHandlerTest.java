@@ -1,6 +1,8 @@
 package lt.transport.registration.exception;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.cache.VehicleRegistryVersion;
+import lt.transport.registration.config.TestMeterRegistryConfig;
 import lt.transport.registration.controller.VehicleRegistrationController;
 import lt.transport.registration.dto.VehicleRegistrationRequest;
 import lt.transport.registration.service.VehicleRegistrationService;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -24,6 +27,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @WebMvcTest(VehicleRegistrationController.class)
+@Import({VehicleRegistryVersion.class, TestMeterRegistryConfig.class})
 public class GlobalExceptionHandlerTest {
 
     @Autowired
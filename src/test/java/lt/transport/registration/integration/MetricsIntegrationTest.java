@@ -0,0 +1,84 @@
+package lt.transport.registration.integration;
+
+import lt.transport.registration.entity.VehicleRegistration;
+import lt.transport.registration.repository.VehicleRegistrationRepository;
+import lt.transport.registration.util.TestDataUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@TestPropertySource("classpath:application-test.properties")
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VehicleRegistrationRepository repository;
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        resetAutoIncrement();
+    }
+
+    @Test
+    void testPrometheusEndpoint_shouldExposeServiceTimersStatementCountsAndErrorCounters() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setId(null);
+        repository.save(vehicleRegistration);
+
+        mockMvc.perform(get("/vehicles/{vehicleId}", 1))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/vehicles/{vehicleId}", 99))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "vehicle_service_seconds_bucket{class=\"lt.transport.registration.service.VehicleRegistrationService\"")))
+                .andExpect(content().string(containsString("method=\"findVehicleRegistrationById\"")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString(
+                        "vehicle_request_db_statements_count{method=\"GET\",uri=\"/vehicles/{vehicleId}\"} 2")))
+                .andExpect(content().string(containsString(
+                        "vehicle_errors_total{exception=\"VehicleNotFoundException\",status=\"404\"} 1.0")));
+    }
+
+    @Test
+    void testMetricsEndpoint_shouldCountErrorsByExceptionType() throws Exception {
+        mockMvc.perform(get("/vehicles").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/metrics/vehicle.errors").param("tag", "exception:InvalidPageCursorException"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").value(1.0));
+    }
+
+    private void resetAutoIncrement() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_ownership_history;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_registration;");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE;");
+        jdbcTemplate.execute("ALTER TABLE vehicle_registration ALTER COLUMN id RESTART WITH 1;");
+    }
+}
@@ -0,0 +1,116 @@
+package lt.transport.registration.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.entity.VehicleRegistration;
+import lt.transport.registration.repository.VehicleRegistrationRepository;
+import lt.transport.registration.util.TestDataUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static lt.transport.registration.constants.ResponseMessages.INVALID_PAGE_CURSOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource("classpath:application-test.properties")
+public class OwnerControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VehicleRegistrationRepository repository;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void setUpBeforeAll() {
+        objectMapper = new ObjectMapper();
+    }
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        resetAutoIncrement();
+    }
+
+    @Test
+    void testGetOwnerVehicles_shouldPageOnlyActiveVehiclesOfOwner() throws Exception {
+        saveVehicle("OWN001", "39601010000", false);
+        saveVehicle("OWN002", "123456789", false);
+        saveVehicle("OWN003", "39601010000", true);
+        saveVehicle("OWN004", "39601010000", false);
+        saveVehicle("OWN005", "39601010000", false);
+
+        MvcResult firstPage = mockMvc.perform(get("/owners/{ownerCode}/vehicles", "39601010000")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].plateNo").value("OWN001"))
+                .andExpect(jsonPath("$.content[1].plateNo").value("OWN004"))
+                .andExpect(jsonPath("$.currentPage").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+        String after = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/owners/{ownerCode}/vehicles", "39601010000")
+                        .param("size", "2")
+                        .param("after", after))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].plateNo").value("OWN005"))
+                .andExpect(jsonPath("$.content[0].vehicleId").value(5))
+                .andExpect(jsonPath("$.content[0].ownerCode").value("39601010000"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'IDX_OWNER_CODE'", Integer.class));
+    }
+
+    @Test
+    void testGetOwnerVehicles_withUnknownOwnerOrInvalidCursor() throws Exception {
+        saveVehicle("OWN001", "39601010000", false);
+
+        mockMvc.perform(get("/owners/{ownerCode}/vehicles", "00000000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+
+        mockMvc.perform(get("/owners/{ownerCode}/vehicles", "39601010000")
+                        .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_PAGE_CURSOR));
+    }
+
+    private void saveVehicle(String plateNo, String ownerCode, boolean deleted) {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setId(null);
+        vehicleRegistration.setPlateNo(plateNo);
+        vehicleRegistration.setOwnerCode(ownerCode);
+        vehicleRegistration.setDeleted(deleted);
+        repository.save(vehicleRegistration);
+    }
+
+    private void resetAutoIncrement() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_ownership_history;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_registration;");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE;");
+        jdbcTemplate.execute("ALTER TABLE vehicle_registration ALTER COLUMN id RESTART WITH 1;");
+    }
+}
@@ -0,0 +1,157 @@
+package lt.transport.registration.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.cache.VehicleDetailsCache;
+import lt.transport.registration.cache.VehiclePlateCache;
+import lt.transport.registration.dto.VehicleBulkDeleteRequest;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.service.VehicleArchiveService;
+import lt.transport.registration.util.TestDataUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static lt.transport.registration.constants.ResponseMessages.ARCHIVED_VEHICLE_NOT_FOUND;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_REGISTERED_SUCCESSFULLY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "vehicle.archive.batch-size=2")
+@AutoConfigureMockMvc
+@TestPropertySource("classpath:application-test.properties")
+public class VehicleArchiveIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VehicleArchiveService vehicleArchiveService;
+
+    @Autowired
+    private VehicleDetailsCache vehicleDetailsCache;
+
+    @Autowired
+    private VehiclePlateCache vehiclePlateCache;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void setUpBeforeAll() {
+        objectMapper = new ObjectMapper();
+    }
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        resetAutoIncrement();
+        vehicleDetailsCache.invalidateAll();
+        vehiclePlateCache.invalidateAll();
+    }
+
+    @Test
+    void testArchiveDeletedVehicleRegistrations_acrossSeveralBatches_shouldMoveVehiclesAndHistory() throws Exception {
+        registerVehicles("ARC001", "ARC002", "ARC003", "KEEP01");
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNewOwner())))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new VehicleBulkDeleteRequest(List.of(1L, 2L, 3L), null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(3));
+
+        assertEquals(3, vehicleArchiveService.archiveDeletedVehicleRegistrations());
+        assertEquals(0, vehicleArchiveService.archiveDeletedVehicleRegistrations());
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vehicle_registration", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vehicle_ownership_history", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vehicle_registration_archive", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vehicle_ownership_history_archive", Integer.class));
+
+        mockMvc.perform(get("/vehicles/archive/{vehicleId}", 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehicleId").value(1))
+                .andExpect(jsonPath("$.plateNo").value("arc001"))
+                .andExpect(jsonPath("$.ownerName").value("Petras"))
+                .andExpect(jsonPath("$.ownershipHistory.length()").value(1))
+                .andExpect(jsonPath("$.ownershipHistory[0].ownerName").value("Jonas"));
+        mockMvc.perform(get("/vehicles/archive/{vehicleId}", 4))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(String.format(ARCHIVED_VEHICLE_NOT_FOUND, 4)));
+        mockMvc.perform(get("/vehicles/4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plateNo").value("keep01"));
+    }
+
+    @Test
+    void testArchiveDeletedVehicleRegistrations_shouldFreePlateNoAndKeepEveryArchivedRegistration() throws Exception {
+        registerVehicles("ARC-001");
+        mockMvc.perform(delete("/vehicles/1"))
+                .andExpect(status().isOk());
+        vehicleArchiveService.archiveDeletedVehicleRegistrations();
+
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(vehicleRequest("ARC-001"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(VEHICLE_REGISTERED_SUCCESSFULLY))
+                .andExpect(jsonPath("$.vehicleId").value(2));
+        mockMvc.perform(delete("/vehicles/2"))
+                .andExpect(status().isOk());
+        vehicleArchiveService.archiveDeletedVehicleRegistrations();
+
+        mockMvc.perform(get("/vehicles/archive").param("plateNo", "arc 001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].vehicleId").value(2))
+                .andExpect(jsonPath("$[1].vehicleId").value(1));
+        mockMvc.perform(get("/vehicles/archive").param("plateNo", "ZZZ999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    private void registerVehicles(String... plateNos) throws Exception {
+        List<VehicleRegistrationRequest> requests = new ArrayList<>();
+        for (String plateNo : plateNos) {
+            requests.add(vehicleRequest(plateNo));
+        }
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(plateNos.length));
+    }
+
+    private VehicleRegistrationRequest vehicleRequest(String plateNo) {
+        return new VehicleRegistrationRequest(plateNo, "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000");
+    }
+
+    private void resetAutoIncrement() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_ownership_history;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_registration;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_ownership_history_archive;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_registration_archive;");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE;");
+        jdbcTemplate.execute("ALTER TABLE vehicle_registration ALTER COLUMN id RESTART WITH 1;");
+    }
+}
@@ -0,0 +1,373 @@
+package lt.transport.registration.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.cache.VehicleDetailsCache;
+import lt.transport.registration.cache.VehiclePlateCache;
+import lt.transport.registration.dto.VehicleBulkDeleteRequest;
+import lt.transport.registration.dto.VehicleBulkTransferOwnerRequest;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.mapper.VehicleRegistrationMapper;
+import lt.transport.registration.repository.VehicleRegistrationRepository;
+import lt.transport.registration.util.TestDataUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static lt.transport.registration.constants.ResponseMessages.DUPLICATE_VEHICLE_IN_REQUEST;
+import static lt.transport.registration.constants.ResponseMessages.MAKE_IS_REQUIRED;
+import static lt.transport.registration.constants.ResponseMessages.OWNER_CODE_IS_REQUIRED;
+import static lt.transport.registration.constants.ResponseMessages.PLATE_NO_ALREADY_EXISTS;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_NOT_FOUND;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_OWNER_TRANSFERRED;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_REGISTERED_SUCCESSFULLY;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_REGISTRATION_REJECTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "vehicle.bulk.batch-size=2")
+@AutoConfigureMockMvc
+@TestPropertySource("classpath:application-test.properties")
+public class VehicleBulkControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VehicleRegistrationRepository repository;
+
+    @Autowired
+    private VehicleDetailsCache vehicleDetailsCache;
+
+    @Autowired
+    private VehiclePlateCache vehiclePlateCache;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void setUpBeforeAll() {
+        objectMapper = new ObjectMapper();
+    }
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        resetAutoIncrement();
+        vehicleDetailsCache.invalidateAll();
+        vehiclePlateCache.invalidateAll();
+    }
+
+    @Test
+    void testRegisterVehicles_acrossSeveralBatches_shouldInsertAllAndReturnIds() throws Exception {
+        List<VehicleRegistrationRequest> requests = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            requests.add(vehicleRequest("BLK00" + i));
+        }
+
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(5))
+                .andExpect(jsonPath("$.rejectedCount").value(0))
+                .andExpect(jsonPath("$.results[0].vehicleId").value(1))
+                .andExpect(jsonPath("$.results[0].message").value(VEHICLE_REGISTERED_SUCCESSFULLY))
+                .andExpect(jsonPath("$.results[4].vehicleId").value(5));
+
+        assertEquals(5, repository.countByIsDeletedFalse());
+        mockMvc.perform(get("/vehicles/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plateNo").value("blk003"));
+        mockMvc.perform(get("/vehicles/by-plate/BLK-005"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehicleId").value(5));
+    }
+
+    @Test
+    void testRegisterVehicles_withNonPlateConstraintViolation_shouldRejectOnlyThatRowWithGenericMessage() throws Exception {
+        List<VehicleRegistrationRequest> requests = List.of(
+                vehicleRequest("BLK001"),
+                new VehicleRegistrationRequest("BLK002", "T".repeat(300), "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000"));
+
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(1))
+                .andExpect(jsonPath("$.rejectedCount").value(1))
+                .andExpect(jsonPath("$.results[0].registered").value(true))
+                .andExpect(jsonPath("$.results[1].registered").value(false))
+                .andExpect(jsonPath("$.results[1].message").value(VEHICLE_REGISTRATION_REJECTED));
+
+        assertEquals(1, repository.countByIsDeletedFalse());
+    }
+
+    @Test
+    void testRegisterVehicles_withDuplicatesAndInvalidItems_shouldRejectOnlyThoseItems() throws Exception {
+        repository.save(VehicleRegistrationMapper.INSTANCE.toEntity(TestDataUtil.getNaturalPersonVehicleRegistrationRequest()));
+        List<VehicleRegistrationRequest> requests = List.of(
+                vehicleRequest("NEW001"),
+                vehicleRequest("abc 123"),
+                vehicleRequest("new-001"),
+                new VehicleRegistrationRequest("NEW002", null, "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000"),
+                vehicleRequest("NEW003"));
+
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(2))
+                .andExpect(jsonPath("$.rejectedCount").value(3))
+                .andExpect(jsonPath("$.results[0].registered").value(true))
+                .andExpect(jsonPath("$.results[1].registered").value(false))
+                .andExpect(jsonPath("$.results[1].message").value(PLATE_NO_ALREADY_EXISTS))
+                .andExpect(jsonPath("$.results[2].registered").value(false))
+                .andExpect(jsonPath("$.results[2].message").value(PLATE_NO_ALREADY_EXISTS))
+                .andExpect(jsonPath("$.results[3].registered").value(false))
+                .andExpect(jsonPath("$.results[3].message").value(MAKE_IS_REQUIRED))
+                .andExpect(jsonPath("$.results[4].registered").value(true));
+
+        assertEquals(3, repository.countByIsDeletedFalse());
+    }
+
+    @Test
+    void testRegisterVehicles_withNdjsonStream_shouldInsertEveryLine() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= 3; i++) {
+            content.append(objectMapper.writeValueAsString(vehicleRequest("NDJ00" + i))).append('\n');
+        }
+
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType("application/x-ndjson")
+                        .content(content.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(3))
+                .andExpect(jsonPath("$.results[2].plateNo").value("NDJ003"));
+
+        assertTrue(repository.findVehicleRegistrationByPlateKeyAndIsDeletedFalse("NDJ002").isPresent());
+    }
+
+    @Test
+    void testRegisterVehicles_afterBulkInsert_shouldRejectSingleRegistrationOfSamePlate() throws Exception {
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(List.of(vehicleRequest("DUP001")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(1));
+
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(vehicleRequest("dup 001"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(PLATE_NO_ALREADY_EXISTS));
+    }
+
+    @Test
+    void testTransferOwners_acrossSeveralBatches_shouldRecordHistoryAndUpdateOwners() throws Exception {
+        registerVehicles("TRF001", "TRF002", "TRF003");
+        mockMvc.perform(get("/vehicles/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ownerName").value("Jonas"));
+
+        List<VehicleBulkTransferOwnerRequest> requests = List.of(
+                new VehicleBulkTransferOwnerRequest(1L, "Petras", "Petraitis", null, "39001010000"),
+                new VehicleBulkTransferOwnerRequest(2L, "Ona", "Onaitė", "UAB Ona", "123456789"),
+                new VehicleBulkTransferOwnerRequest(3L, "Rasa", "Rasaitė", null, "48001010000"));
+
+        mockMvc.perform(post("/vehicles/transfer-owner/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transferredCount").value(3))
+                .andExpect(jsonPath("$.rejectedCount").value(0))
+                .andExpect(jsonPath("$.results[1].vehicleId").value(2))
+                .andExpect(jsonPath("$.results[1].message").value(VEHICLE_OWNER_TRANSFERRED));
+
+        mockMvc.perform(get("/vehicles/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ownerName").value("Ona"))
+                .andExpect(jsonPath("$.ownerLegalName").value("UAB Ona"))
+                .andExpect(jsonPath("$.ownerCode").value("123456789"));
+        mockMvc.perform(get("/vehicles/by-plate/TRF003"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ownerName").value("Rasa"));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM vehicle_ownership_history WHERE owner_name = 'Jonas' AND owner_code = '39601010000'", Integer.class));
+    }
+
+    @Test
+    void testTransferOwners_withInvalidMissingAndDuplicateItems_shouldRejectOnlyThoseItems() throws Exception {
+        registerVehicles("TRF001", "TRF002");
+        mockMvc.perform(delete("/vehicles/2"))
+                .andExpect(status().isOk());
+
+        List<VehicleBulkTransferOwnerRequest> requests = List.of(
+                new VehicleBulkTransferOwnerRequest(1L, "Petras", "Petraitis", null, "39001010000"),
+                new VehicleBulkTransferOwnerRequest(2L, "Petras", "Petraitis", null, "39001010000"),
+                new VehicleBulkTransferOwnerRequest(1L, "Ona", "Onaitė", null, "48001010000"),
+                new VehicleBulkTransferOwnerRequest(42L, "Petras", "Petraitis", null, "39001010000"),
+                new VehicleBulkTransferOwnerRequest(1L, "Petras", "Petraitis", null, null));
+
+        mockMvc.perform(post("/vehicles/transfer-owner/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transferredCount").value(1))
+                .andExpect(jsonPath("$.rejectedCount").value(4))
+                .andExpect(jsonPath("$.results[0].transferred").value(true))
+                .andExpect(jsonPath("$.results[1].message").value(String.format(VEHICLE_NOT_FOUND, 2)))
+                .andExpect(jsonPath("$.results[2].message").value(String.format(DUPLICATE_VEHICLE_IN_REQUEST, 1)))
+                .andExpect(jsonPath("$.results[3].message").value(String.format(VEHICLE_NOT_FOUND, 42)))
+                .andExpect(jsonPath("$.results[4].message").value(OWNER_CODE_IS_REQUIRED));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vehicle_ownership_history", Integer.class));
+        mockMvc.perform(get("/vehicles/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ownerName").value("Petras"));
+    }
+
+    @Test
+    void testDeleteVehicles_byIdsAcrossSeveralBatches_shouldDeleteOnlyActiveVehicles() throws Exception {
+        registerVehicles("DEL001", "DEL002", "DEL003", "DEL004");
+        mockMvc.perform(get("/vehicles/by-plate/DEL001"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/vehicles/3"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/vehicles/4"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new VehicleBulkDeleteRequest(List.of(1L, 3L, 1L, 4L, 42L), null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(2));
+
+        mockMvc.perform(get("/vehicles/by-plate/DEL001"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/vehicles/3"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/vehicles/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(0));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT version FROM vehicle_registration WHERE id = 1", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM vehicle_registration WHERE is_deleted = TRUE AND plate_key IS NULL", Integer.class));
+    }
+
+    @Test
+    void testDeleteVehicles_byOwnerCode_shouldDeleteWholeFleetInBatches() throws Exception {
+        registerVehicles("FLT001", "FLT002", "FLT003", "FLT004", "FLT005");
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(List.of(new VehicleRegistrationRequest(
+                                "OTH001", "Toyota", "Corolla", 2020, "Ona", "Onaitė", null, "48001010000")))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new VehicleBulkDeleteRequest(null, "39601010000"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(5));
+
+        assertEquals(1, repository.countByIsDeletedFalse());
+        mockMvc.perform(get("/vehicles/by-plate/OTH001"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(List.of(vehicleRequest("FLT-001")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(1));
+    }
+
+    @Test
+    void testExportVehicles_asNdjson_shouldStreamOnlyActiveVehiclesInIdOrder() throws Exception {
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(List.of(
+                                vehicleRequest("EXP001"), vehicleRequest("EXP002"), vehicleRequest("EXP003")))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/vehicles/2"))
+                .andExpect(status().isOk());
+
+        MvcResult mvcResult = mockMvc.perform(get("/vehicles/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1, objectMapper.readTree(lines[0]).get("vehicleId").asInt());
+        assertEquals("exp001", objectMapper.readTree(lines[0]).get("plateNo").asText());
+        assertEquals(3, objectMapper.readTree(lines[1]).get("vehicleId").asInt());
+    }
+
+    @Test
+    void testExportVehicles_asCsv_shouldQuoteFieldsWithSeparators() throws Exception {
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(List.of(
+                                vehicleRequest("CSV001"),
+                                new VehicleRegistrationRequest("CSV002", "Toyota", "Corolla", 2020, "Jonas", "Petrauskas",
+                                        "UAB \"Ratai, ir Ko\"", "123456789")))))
+                .andExpect(status().isOk());
+
+        MvcResult mvcResult = mockMvc.perform(get("/vehicles/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("vehicleId,plateNo,make,model,year,ownerName,ownerSurname,ownerLegalName,ownerCode\n"
+                        + "1,csv001,Toyota,Corolla,2020,Jonas,Petrauskas,,39601010000\n"
+                        + "2,csv002,Toyota,Corolla,2020,Jonas,Petrauskas,\"UAB \"\"Ratai, ir Ko\"\"\",123456789\n"));
+    }
+
+    private void registerVehicles(String... plateNos) throws Exception {
+        List<VehicleRegistrationRequest> requests = new ArrayList<>();
+        for (String plateNo : plateNos) {
+            requests.add(vehicleRequest(plateNo));
+        }
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(plateNos.length));
+    }
+
+    private VehicleRegistrationRequest vehicleRequest(String plateNo) {
+        return new VehicleRegistrationRequest(plateNo, "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000");
+    }
+
+    private void resetAutoIncrement() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_ownership_history;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_registration;");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE;");
+        jdbcTemplate.execute("ALTER TABLE vehicle_registration ALTER COLUMN id RESTART WITH 1;");
+    }
+}
@@ -0,0 +1,196 @@
+package lt.transport.registration.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.cache.VehicleDetailsCache;
+import lt.transport.registration.cache.VehiclePlateCache;
+import lt.transport.registration.dto.VehicleBulkDeleteRequest;
+import lt.transport.registration.dto.VehicleBulkTransferOwnerRequest;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.util.TestDataUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static lt.transport.registration.constants.ResponseMessages.INVALID_PAGE_CURSOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "vehicle.changes.gap-timeout=PT1M")
+@AutoConfigureMockMvc
+@TestPropertySource("classpath:application-test.properties")
+public class VehicleChangeIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VehicleDetailsCache vehicleDetailsCache;
+
+    @Autowired
+    private VehiclePlateCache vehiclePlateCache;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void setUpBeforeAll() {
+        objectMapper = new ObjectMapper();
+    }
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        resetAutoIncrement();
+        vehicleDetailsCache.invalidateAll();
+        vehiclePlateCache.invalidateAll();
+    }
+
+    @Test
+    void testGetVehicleChanges_shouldReturnEveryMutationInOrderAcrossPages() throws Exception {
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNaturalPersonVehicleRegistrationRequest())))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(List.of(
+                                new VehicleRegistrationRequest("CHG001", "Honda", "Civic", 2018, "Jonas", "Petrauskas", null, "39601010000"),
+                                new VehicleRegistrationRequest("CHG002", "Honda", "Jazz", 2019, "Jonas", "Petrauskas", null, "39601010000")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(2));
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNewOwner())))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/vehicles/transfer-owner/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(List.of(
+                                new VehicleBulkTransferOwnerRequest(2L, "Petras", "Petraitis", null, "39001010000")))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/vehicles/3"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new VehicleBulkDeleteRequest(List.of(2L, 3L), null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(1));
+
+        String firstPage = mockMvc.perform(get("/vehicles/changes").param("size", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(4))
+                .andExpect(jsonPath("$.changes[0].changeType").value("REGISTERED"))
+                .andExpect(jsonPath("$.changes[0].vehicleId").value(1))
+                .andExpect(jsonPath("$.changes[0].plateNo").value("abc123"))
+                .andExpect(jsonPath("$.changes[0].version").value(0))
+                .andExpect(jsonPath("$.changes[1].vehicleId").value(2))
+                .andExpect(jsonPath("$.changes[2].vehicleId").value(3))
+                .andExpect(jsonPath("$.changes[3].changeType").value("OWNER_TRANSFERRED"))
+                .andExpect(jsonPath("$.changes[3].ownerName").value("Petras"))
+                .andExpect(jsonPath("$.changes[3].ownerLegalName").value("UAB Petras"))
+                .andExpect(jsonPath("$.changes[3].version").value(1))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String secondPage = mockMvc.perform(get("/vehicles/changes").param("size", "4").param("since", nextToken(firstPage)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(3))
+                .andExpect(jsonPath("$.changes[0].changeType").value("OWNER_TRANSFERRED"))
+                .andExpect(jsonPath("$.changes[0].vehicleId").value(2))
+                .andExpect(jsonPath("$.changes[1].changeType").value("DELETED"))
+                .andExpect(jsonPath("$.changes[1].vehicleId").value(3))
+                .andExpect(jsonPath("$.changes[2].changeType").value("DELETED"))
+                .andExpect(jsonPath("$.changes[2].vehicleId").value(2))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/vehicles/changes").param("since", nextToken(secondPage)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(0))
+                .andExpect(jsonPath("$.nextToken").value(nextToken(secondPage)));
+    }
+
+    @Test
+    void testGetVehicleChanges_withRejectedRegistration_shouldNotRecordChange() throws Exception {
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNaturalPersonVehicleRegistrationRequest())))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNaturalPersonVehicleRegistrationRequest())))
+                .andExpect(status().is4xxClientError());
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vehicle_change_event", Integer.class));
+    }
+
+    @Test
+    void testGetVehicleChanges_withChangeCommittedOutOfIdOrder_shouldStopAtGapUntilItIsCommitted() throws Exception {
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNaturalPersonVehicleRegistrationRequest())))
+                .andExpect(status().isOk());
+        insertChange(3L, 1L);
+
+        String firstPage = mockMvc.perform(get("/vehicles/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].changeId").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString();
+
+        insertChange(2L, 1L);
+
+        mockMvc.perform(get("/vehicles/changes").param("since", nextToken(firstPage)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.changes[0].changeId").value(2))
+                .andExpect(jsonPath("$.changes[1].changeId").value(3));
+    }
+
+    @Test
+    void testGetVehicleChanges_withInvalidToken_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/vehicles/changes").param("since", "not-a-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_PAGE_CURSOR));
+    }
+
+    private String nextToken(String response) throws Exception {
+        JsonNode body = objectMapper.readTree(response);
+        return body.get("nextToken").asText();
+    }
+
+    private void insertChange(Long changeId, Long vehicleId) {
+        jdbcTemplate.update("INSERT INTO vehicle_change_event "
+                + "(id, vehicle_id, change_type, plate_no, make, model, vehicle_year, owner_name, owner_surname, owner_legal_name, owner_code, version, changed_at) "
+                + "SELECT ?, id, 'OWNER_TRANSFERRED', plate_no, make, model, vehicle_year, owner_name, owner_surname, owner_legal_name, owner_code, version, ? "
+                + "FROM vehicle_registration WHERE id = ?", changeId, LocalDateTime.now(), vehicleId);
+    }
+
+    private void resetAutoIncrement() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_ownership_history;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_registration;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_change_event;");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE;");
+        jdbcTemplate.execute("ALTER TABLE vehicle_registration ALTER COLUMN id RESTART WITH 1;");
+        jdbcTemplate.execute("ALTER TABLE vehicle_change_event ALTER COLUMN id RESTART WITH 1;");
+    }
+}
@@ -0,0 +1,187 @@
+package lt.transport.registration.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.cache.VehicleDetailsCache;
+import lt.transport.registration.cache.VehiclePlateCache;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.stream.VehicleChangeStream;
+import lt.transport.registration.util.TestDataUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {"vehicle.stream.buffer-size=16", "vehicle.changes.gap-timeout=PT1M"})
+@AutoConfigureMockMvc
+@TestPropertySource("classpath:application-test.properties")
+public class VehicleChangeStreamIntegrationTest {
+
+    private static final long STREAM_WAIT_MILLIS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VehicleDetailsCache vehicleDetailsCache;
+
+    @Autowired
+    private VehiclePlateCache vehiclePlateCache;
+
+    @Autowired
+    private VehicleChangeStream vehicleChangeStream;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void setUpBeforeAll() {
+        objectMapper = new ObjectMapper();
+    }
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        resetAutoIncrement();
+        vehicleDetailsCache.invalidateAll();
+        vehiclePlateCache.invalidateAll();
+    }
+
+    @Test
+    void testStreamVehicleChanges_withPlateNoFilter_shouldPushOnlyMatchingChanges() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/vehicles/changes/stream").param("plateNo", "abc 123"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        registerVehicle(TestDataUtil.getLegalEntityVehicleRegistrationRequest());
+        registerVehicle(TestDataUtil.getNaturalPersonVehicleRegistrationRequest());
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNewOwner())))
+                .andExpect(status().isOk());
+
+        String content = awaitEvents(stream, 2);
+        assertTrue(content.contains("\"changeType\":\"REGISTERED\""));
+        assertTrue(content.contains("\"changeType\":\"OWNER_TRANSFERRED\""));
+        assertTrue(content.contains("\"ownerLegalName\":\"UAB Petras\""));
+        assertFalse(content.contains("bcd456"));
+    }
+
+    @Test
+    void testStreamVehicleChanges_withLastEventId_shouldReplayMissedChanges() throws Exception {
+        registerVehicle(TestDataUtil.getNaturalPersonVehicleRegistrationRequest());
+        registerVehicle(TestDataUtil.getLegalEntityVehicleRegistrationRequest());
+        Long firstChangeId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM vehicle_change_event", Long.class);
+
+        MvcResult stream = mockMvc.perform(get("/vehicles/changes/stream").header("Last-Event-ID", firstChangeId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = awaitEvents(stream, 1);
+        assertTrue(content.contains("id:" + (firstChangeId + 1)));
+        assertTrue(content.contains("bcd456"));
+        assertFalse(content.contains("abc123"));
+    }
+
+    @Test
+    void testStreamVehicleChanges_withLastEventIdAndMoreMissedChangesThanBuffer_shouldReplayAllOfThem() throws Exception {
+        List<VehicleRegistrationRequest> requests = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            requests.add(new VehicleRegistrationRequest(String.format("RPL%03d", i), "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000"));
+        }
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requests)))
+                .andExpect(status().isOk());
+        Long lastSeenChangeId = jdbcTemplate.queryForObject("SELECT MIN(id) - 1 FROM vehicle_change_event", Long.class);
+
+        MvcResult stream = mockMvc.perform(get("/vehicles/changes/stream").header("Last-Event-ID", lastSeenChangeId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = awaitEvents(stream, 40);
+        assertTrue(content.contains("rpl001"));
+        assertTrue(content.contains("rpl040"));
+    }
+
+    @Test
+    void testStreamVehicleChanges_withChangesCommittedOutOfIdOrder_shouldPushThemInIdOrder() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/vehicles/changes/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        registerVehicle(TestDataUtil.getNaturalPersonVehicleRegistrationRequest());
+        awaitEvents(stream, 1);
+        Long registeredChangeId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM vehicle_change_event", Long.class);
+
+        insertChange(registeredChangeId + 2, 1L);
+        vehicleChangeStream.publishAfterCommit();
+        awaitEvents(stream, 1);
+
+        insertChange(registeredChangeId + 1, 1L);
+        jdbcTemplate.execute("ALTER TABLE vehicle_change_event ALTER COLUMN id RESTART WITH " + (registeredChangeId + 3));
+        vehicleChangeStream.publishAfterCommit();
+        String content = awaitEvents(stream, 3);
+        assertTrue(content.indexOf("id:" + (registeredChangeId + 1) + "\n") < content.indexOf("id:" + (registeredChangeId + 2) + "\n"));
+    }
+
+    private void insertChange(Long changeId, Long vehicleId) {
+        jdbcTemplate.update("INSERT INTO vehicle_change_event "
+                + "(id, vehicle_id, change_type, plate_no, make, model, vehicle_year, owner_name, owner_surname, owner_legal_name, owner_code, version, changed_at) "
+                + "SELECT ?, id, 'OWNER_TRANSFERRED', plate_no, make, model, vehicle_year, owner_name, owner_surname, owner_legal_name, owner_code, version, ? "
+                + "FROM vehicle_registration WHERE id = ?", changeId, LocalDateTime.now(), vehicleId);
+    }
+
+    private void registerVehicle(Object request) throws Exception {
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(request)))
+                .andExpect(status().isOk());
+    }
+
+    private String awaitEvents(MvcResult stream, int expectedEvents) throws Exception {
+        long deadline = System.currentTimeMillis() + STREAM_WAIT_MILLIS;
+        String content = stream.getResponse().getContentAsString();
+        while (countEvents(content) < expectedEvents && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = stream.getResponse().getContentAsString();
+        }
+        Thread.sleep(100);
+        content = stream.getResponse().getContentAsString();
+        assertEquals(expectedEvents, countEvents(content));
+        return content;
+    }
+
+    private int countEvents(String content) {
+        return content.split("event:vehicle-change", -1).length - 1;
+    }
+
+    private void resetAutoIncrement() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_ownership_history;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_registration;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_change_event;");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE;");
+        jdbcTemplate.execute("ALTER TABLE vehicle_registration ALTER COLUMN id RESTART WITH 1;");
+    }
+}
@@ -0,0 +1,169 @@
+package lt.transport.registration.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lt.transport.registration.cache.VehicleDetailsCache;
+import lt.transport.registration.cache.VehiclePlateCache;
+import lt.transport.registration.dto.VehicleLookupRequest;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static lt.transport.registration.constants.ResponseMessages.LOOKUP_CRITERIA_REQUIRED;
+import static lt.transport.registration.constants.ResponseMessages.LOOKUP_TOO_MANY_KEYS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "vehicle.lookup.chunk-size=2")
+@AutoConfigureMockMvc
+@TestPropertySource("classpath:application-test.properties")
+public class VehicleLookupIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private VehicleDetailsCache vehicleDetailsCache;
+
+    @Autowired
+    private VehiclePlateCache vehiclePlateCache;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void setUpBeforeAll() {
+        objectMapper = new ObjectMapper();
+    }
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        resetAutoIncrement();
+        vehicleDetailsCache.invalidateAll();
+        vehiclePlateCache.invalidateAll();
+    }
+
+    @Test
+    void testLookupVehicles_shouldReturnFoundVehiclesOnceAndListMissingKeys() throws Exception {
+        registerVehicles(3);
+        mockMvc.perform(delete("/vehicles/3"))
+                .andExpect(status().isOk());
+
+        lookup(new VehicleLookupRequest(List.of(2L, 1L, 3L, 2L, 99L), List.of("lkp-001", "LKP 002", "NONE01")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehicles.length()").value(2))
+                .andExpect(jsonPath("$.vehicles[0].vehicleId").value(2))
+                .andExpect(jsonPath("$.vehicles[0].plateNo").value("lkp002"))
+                .andExpect(jsonPath("$.vehicles[1].vehicleId").value(1))
+                .andExpect(jsonPath("$.notFoundVehicleIds.length()").value(2))
+                .andExpect(jsonPath("$.notFoundVehicleIds[0]").value(3))
+                .andExpect(jsonPath("$.notFoundVehicleIds[1]").value(99))
+                .andExpect(jsonPath("$.notFoundPlateNos.length()").value(1))
+                .andExpect(jsonPath("$.notFoundPlateNos[0]").value("NONE01"));
+    }
+
+    @Test
+    void testLookupVehicles_shouldQueryMissesInChunksAndServeCachedVehiclesFromMemory() throws Exception {
+        registerVehicles(5);
+        VehicleLookupRequest lookupRequest = new VehicleLookupRequest(List.of(1L, 2L, 3L, 4L, 5L), List.of("LKP001", "LKP002", "LKP003"));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            lookup(lookupRequest)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.vehicles.length()").value(5));
+            assertEquals(5, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+
+            statistics.clear();
+            lookup(lookupRequest)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.vehicles.length()").value(5));
+            assertEquals(5, statistics.getPrepareStatementCount());
+
+            for (long vehicleId = 1; vehicleId <= 5; vehicleId++) {
+                mockMvc.perform(get("/vehicles/{vehicleId}", vehicleId)).andExpect(status().isOk());
+            }
+            for (int i = 1; i <= 3; i++) {
+                mockMvc.perform(get("/vehicles/by-plate/{plateNo}", "LKP00" + i)).andExpect(status().isOk());
+            }
+            statistics.clear();
+            lookup(lookupRequest)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.vehicles.length()").value(5));
+            assertEquals(0, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void testLookupVehicles_withoutKeysOrTooManyKeys_shouldReturnBadRequest() throws Exception {
+        lookup(new VehicleLookupRequest(List.of(), null))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(LOOKUP_CRITERIA_REQUIRED));
+
+        List<Long> vehicleIds = new ArrayList<>();
+        for (long id = 1; id <= VehicleLookupRequest.MAX_KEYS; id++) {
+            vehicleIds.add(id);
+        }
+        lookup(new VehicleLookupRequest(vehicleIds, Collections.singletonList("LKP001")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(LOOKUP_TOO_MANY_KEYS));
+    }
+
+    private void registerVehicles(int count) throws Exception {
+        List<VehicleRegistrationRequest> registrationRequests = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            registrationRequests.add(new VehicleRegistrationRequest(String.format("LKP%03d", i), "Toyota", "Corolla", 2020,
+                    "Jonas", "Petrauskas", null, "39601010000"));
+        }
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(registrationRequests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(count));
+    }
+
+    private ResultActions lookup(VehicleLookupRequest lookupRequest) throws Exception {
+        return mockMvc.perform(post("/vehicles/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(lookupRequest)));
+    }
+
+    private void resetAutoIncrement() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_ownership_history;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_registration;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_change_event;");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE;");
+        jdbcTemplate.execute("ALTER TABLE vehicle_registration ALTER COLUMN id RESTART WITH 1;");
+    }
+}
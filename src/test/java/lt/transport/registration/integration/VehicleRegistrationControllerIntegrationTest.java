@@ -1,14 +1,21 @@
 package lt.transport.registration.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
+import lt.transport.registration.cache.VehicleDetailsCache;
+import lt.transport.registration.cache.VehiclePlateCache;
 import lt.transport.registration.dto.TransferOwnerRequest;
 import lt.transport.registration.dto.VehicleRegistrationRequest;
 import lt.transport.registration.entity.VehicleOwnershipHistory;
 import lt.transport.registration.entity.VehicleRegistration;
 import lt.transport.registration.mapper.VehicleRegistrationMapper;
 import lt.transport.registration.repository.VehicleRegistrationRepository;
+import lt.transport.registration.service.VehicleRegistrationService;
+import lt.transport.registration.util.PageCursor;
 import lt.transport.registration.util.TestDataUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,16 +23,30 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import static lt.transport.registration.constants.ResponseMessages.INVALID_PAGE_CURSOR;
 import static lt.transport.registration.constants.ResponseMessages.MAKE_IS_REQUIRED;
 import static lt.transport.registration.constants.ResponseMessages.MODEL_IS_REQUIRED;
 import static lt.transport.registration.constants.ResponseMessages.OWNER_CODE_IS_REQUIRED;
@@ -37,13 +58,18 @@ import static lt.transport.registration.constants.ResponseMessages.VEHICLE_DELET
 import static lt.transport.registration.constants.ResponseMessages.VEHICLE_NOT_FOUND;
 import static lt.transport.registration.constants.ResponseMessages.VEHICLE_OWNER_TRANSFERRED;
 import static lt.transport.registration.constants.ResponseMessages.VEHICLE_REGISTERED_SUCCESSFULLY;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_VERSION_MISMATCH;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_WITH_PLATE_NO_NOT_FOUND;
 import static lt.transport.registration.constants.ResponseMessages.YEAR_IS_REQUIRED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -61,6 +87,18 @@ public class VehicleRegistrationControllerIntegrationTest {
 
     @Autowired
     private VehicleRegistrationRepository repository;
+
+    @Autowired
+    private VehicleDetailsCache vehicleDetailsCache;
+
+    @Autowired
+    private VehiclePlateCache vehiclePlateCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private VehicleRegistrationService vehicleRegistrationService;
     private ObjectMapper objectMapper;
 
     @BeforeAll
@@ -70,8 +108,9 @@ public class VehicleRegistrationControllerIntegrationTest {
 
     @BeforeEach
     void setUpBeforeEach() {
-        repository.deleteAll();
         resetAutoIncrement();
+        vehicleDetailsCache.invalidateAll();
+        vehiclePlateCache.invalidateAll();
     }
 
     @Test
@@ -136,6 +175,89 @@ public class VehicleRegistrationControllerIntegrationTest {
         assertTrue(repository.existsById(1L));
     }
 
+    @Test
+    public void testRegisterVehicle_withDifferentlyFormattedDuplicatedPlateNo_shouldReturnBadRequest() throws Exception {
+        VehicleRegistrationRequest vehicleRegistrationRequest = TestDataUtil.getNaturalPersonVehicleRegistrationRequest();
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(vehicleRegistrationRequest)))
+                .andExpect(status().isOk());
+
+        VehicleRegistrationRequest duplicatedVehicleRegistrationRequest = new VehicleRegistrationRequest("abc-12 3",
+                "Toyota", "Corolla", 2020, "Jonas", "Petrauskas",
+                null, "39601010000");
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(duplicatedVehicleRegistrationRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(PLATE_NO_ALREADY_EXISTS))
+                .andExpect(jsonPath("$.statusCode").value(400));
+
+        assertEquals(1, repository.findAll().size());
+        assertEquals("ABC123", repository.findById(1L).orElseThrow().getPlateKey());
+    }
+
+    @Test
+    public void testRegisterVehicle_withPlateNoOfDeletedVehicle_shouldSuccess() throws Exception {
+        VehicleRegistrationRequest vehicleRegistrationRequest = TestDataUtil.getNaturalPersonVehicleRegistrationRequest();
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(vehicleRegistrationRequest)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/vehicles/{vehicleId}", 1))
+                .andExpect(status().isOk());
+
+        VehicleRegistrationRequest reRegistrationRequest = new VehicleRegistrationRequest("ABC-123",
+                "Toyota", "Corolla", 2020, "Jonas", "Petrauskas",
+                null, "39601010000");
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(reRegistrationRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehicleId").value("2"));
+
+        assertNull(repository.findById(1L).orElseThrow().getPlateKey());
+        assertEquals("ABC123", repository.findById(2L).orElseThrow().getPlateKey());
+    }
+
+    @Test
+    public void testRegisterVehicle_concurrentDuplicateRegistrations_shouldRegisterOnce() throws Exception {
+        int registrations = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(registrations);
+        try {
+            List<Future<MvcResult>> results = new ArrayList<>();
+            for (int i = 0; i < registrations; i++) {
+                String plateNo = i % 2 == 0 ? "ABC123" : "abc-123";
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/vehicles/register")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsBytes(new VehicleRegistrationRequest(plateNo,
+                                            "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000"))))
+                            .andReturn();
+                }));
+            }
+            start.countDown();
+            int registered = 0;
+            for (Future<MvcResult> result : results) {
+                MvcResult mvcResult = result.get(30, TimeUnit.SECONDS);
+                if (mvcResult.getResponse().getStatus() == 200) {
+                    registered++;
+                } else {
+                    assertEquals(400, mvcResult.getResponse().getStatus());
+                    assertEquals(PLATE_NO_ALREADY_EXISTS,
+                            objectMapper.readTree(mvcResult.getResponse().getContentAsString()).get("message").asText());
+                }
+            }
+
+            assertEquals(1, registered);
+            assertEquals(1, repository.findAll().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void testRegisterVehicle_withPlateNoNull_shouldReturnBadRequest() throws Exception {
         VehicleRegistrationRequest vehicleRegistrationRequest = new VehicleRegistrationRequest(null,
@@ -414,6 +536,33 @@ public class VehicleRegistrationControllerIntegrationTest {
         assertEquals(ownerCode, vehicleRegistration.getOwnerCode());
     }
 
+    @Test
+    void testGetVehicleRegistrationById_shouldServeCachedDetailsUntilOwnerTransfer() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setId(null);
+        VehicleRegistration savedVehicle = repository.save(vehicleRegistration);
+
+        mockMvc.perform(get("/vehicles/{vehicleId}", savedVehicle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ownerName").value("Jonas"));
+
+        jdbcTemplate.update("UPDATE vehicle_registration SET make = 'Honda' WHERE id = ?", savedVehicle.getId());
+
+        mockMvc.perform(get("/vehicles/{vehicleId}", savedVehicle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.make").value("Toyota"));
+
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", savedVehicle.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNewOwner())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/vehicles/{vehicleId}", savedVehicle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.make").value("Honda"))
+                .andExpect(jsonPath("$.ownerName").value("Petras"));
+    }
+
     @Test
     void testGetVehicleRegistrationByIdNotFound() throws Exception {
         mockMvc.perform(get("/vehicles/1"))
@@ -424,6 +573,41 @@ public class VehicleRegistrationControllerIntegrationTest {
         assertTrue(repository.findAll().isEmpty());
     }
 
+    @Test
+    void testGetVehicleRegistrationByPlateNo_shouldReflectOwnerTransferAndDeletion() throws Exception {
+        VehicleRegistrationRequest vehicleRegistrationRequest = TestDataUtil.getNaturalPersonVehicleRegistrationRequest();
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(vehicleRegistrationRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/vehicles/by-plate/{plateNo}", "abc-123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehicleId").value(1))
+                .andExpect(jsonPath("$.ownerName").value("Jonas"));
+
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNewOwner())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/vehicles/by-plate/{plateNo}", "ABC123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehicleId").value(1))
+                .andExpect(jsonPath("$.ownerName").value("Petras"));
+
+        mockMvc.perform(delete("/vehicles/{vehicleId}", 1))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/vehicles/by-plate/{plateNo}", "ABC123"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(String.format(VEHICLE_WITH_PLATE_NO_NOT_FOUND, "ABC123")));
+
+        mockMvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:vehiclePlateCache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("cache.gets"));
+    }
+
     @Test
     void testGetAllVehicleRegistrations() throws Exception {
         VehicleRegistration vehicleRegistration1 = TestDataUtil.getNaturalPersonVehicleRegistration();
@@ -481,6 +665,191 @@ public class VehicleRegistrationControllerIntegrationTest {
         assertEquals(ownerCode, vehicleRegistration.getOwnerCode());
     }
 
+    @Test
+    void testGetAllVehicleRegistrations_sortedByNullableProperty_shouldPageWithoutCursor() throws Exception {
+        VehicleRegistration naturalPersonVehicle = TestDataUtil.getNaturalPersonVehicleRegistration();
+        naturalPersonVehicle.setId(null);
+        repository.save(naturalPersonVehicle);
+        VehicleRegistration legalEntityVehicle = TestDataUtil.getLegalEntityVehicleRegistration();
+        legalEntityVehicle.setId(null);
+        repository.save(legalEntityVehicle);
+
+        for (String includeTotal : List.of("true", "false")) {
+            mockMvc.perform(get("/vehicles")
+                            .param("size", "1")
+                            .param("sortBy", "ownerLegalName")
+                            .param("includeTotal", includeTotal))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+            mockMvc.perform(get("/vehicles")
+                            .param("size", "1")
+                            .param("page", "1")
+                            .param("sortBy", "ownerLegalName")
+                            .param("make", "Toyota")
+                            .param("includeTotal", includeTotal))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("ownerLegalName", "UAB Petras");
+        keys.put("id", 1L);
+        mockMvc.perform(get("/vehicles")
+                        .param("after", new PageCursor("ownerLegalName", Sort.Direction.ASC, keys).encode()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_PAGE_CURSOR));
+    }
+
+    @Test
+    void testGetAllVehicleRegistrations_withCursor_shouldScrollThroughAllRegistrations() throws Exception {
+        List<String> plateNos = List.of("AAA001", "AAA002", "AAA003", "AAA004", "AAA005");
+        for (String plateNo : plateNos) {
+            VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+            vehicleRegistration.setId(null);
+            vehicleRegistration.setPlateNo(plateNo);
+            repository.save(vehicleRegistration);
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("size", "2")
+                        .param("sortBy", "plateNo")
+                        .param("sortDirection", "DESC")
+                        .param("includeTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].plateNo").value("AAA005"))
+                .andExpect(jsonPath("$.content[1].plateNo").value("AAA004"))
+                .andExpect(jsonPath("$.totalElements").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+        String after = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        MvcResult secondPage = mockMvc.perform(get("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("size", "2")
+                        .param("after", after))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].plateNo").value("AAA003"))
+                .andExpect(jsonPath("$.content[1].plateNo").value("AAA002"))
+                .andExpect(jsonPath("$.currentPage").isEmpty())
+                .andExpect(jsonPath("$.totalPages").value(3))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+        after = objectMapper.readTree(secondPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("size", "2")
+                        .param("after", after)
+                        .param("includeTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].plateNo").value("AAA001"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    void testGetAllVehicleRegistrations_withFilters_shouldReturnOnlyMatchingRegistrations() throws Exception {
+        saveVehicle("FLT001", "Toyota", "Corolla", 2015, "Petrauskas", null);
+        saveVehicle("FLT002", "Toyota", "Corolla", 2019, "Petraitis", "UAB Ratai");
+        saveVehicle("FLT003", "Toyota", "Yaris", 2019, "Petrauskienė", null);
+        saveVehicle("FLT004", "Toyota", "Corolla", 2022, "Jonaitis", null);
+        saveVehicle("FLT005", "Audi", "A4", 2019, "Petr_as", null);
+        Long deletedId = saveVehicle("FLT006", "Toyota", "Corolla", 2019, "Petrauskas", null);
+        mockMvc.perform(delete("/vehicles/{vehicleId}", deletedId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/vehicles")
+                        .param("make", "Toyota")
+                        .param("model", "Corolla")
+                        .param("yearFrom", "2016")
+                        .param("yearTo", "2022")
+                        .param("sortBy", "plateNo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].plateNo").value("FLT002"))
+                .andExpect(jsonPath("$.content[1].plateNo").value("FLT004"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+
+        mockMvc.perform(get("/vehicles")
+                        .param("ownerSurname", "Petr")
+                        .param("hasLegalOwner", "false")
+                        .param("sortBy", "plateNo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[0].plateNo").value("FLT001"))
+                .andExpect(jsonPath("$.content[1].plateNo").value("FLT003"))
+                .andExpect(jsonPath("$.content[2].plateNo").value("FLT005"));
+
+        mockMvc.perform(get("/vehicles")
+                        .param("ownerSurname", "Petr_"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].plateNo").value("FLT005"));
+
+        mockMvc.perform(get("/vehicles")
+                        .param("hasLegalOwner", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].ownerLegalName").value("UAB Ratai"));
+    }
+
+    @Test
+    void testGetAllVehicleRegistrations_withFilters_shouldPageWithoutTotalAndScrollWithCursor() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            saveVehicle("YRS00" + i, "Toyota", "Corolla", 2018, "Petrauskas", null);
+        }
+        saveVehicle("OLD001", "Toyota", "Corolla", 2005, "Petrauskas", null);
+
+        mockMvc.perform(get("/vehicles")
+                        .param("yearFrom", "2010")
+                        .param("page", "1")
+                        .param("size", "2")
+                        .param("sortBy", "plateNo")
+                        .param("includeTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].plateNo").value("YRS003"))
+                .andExpect(jsonPath("$.content[1].plateNo").value("YRS004"))
+                .andExpect(jsonPath("$.currentPage").value(1))
+                .andExpect(jsonPath("$.totalElements").isEmpty());
+
+        MvcResult firstPage = mockMvc.perform(get("/vehicles")
+                        .param("yearFrom", "2010")
+                        .param("size", "3")
+                        .param("sortBy", "plateNo")
+                        .param("sortDirection", "DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].plateNo").value("YRS005"))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+        String after = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/vehicles")
+                        .param("yearFrom", "2010")
+                        .param("size", "3")
+                        .param("after", after))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].plateNo").value("YRS002"))
+                .andExpect(jsonPath("$.content[1].plateNo").value("YRS001"))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    void testGetAllVehicleRegistrations_withInvalidCursor_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_PAGE_CURSOR))
+                .andExpect(jsonPath("$.statusCode").value(400));
+    }
+
     @Test
     @Transactional
     void testTransferOwnerOfVehicleRegistration() throws Exception {
@@ -805,6 +1174,29 @@ public class VehicleRegistrationControllerIntegrationTest {
         assertTrue(deletedVehicleRegistration.isDeleted());
     }
 
+    @Test
+    void testDeleteVehicleRegistration_shouldFreePlateNoForNewRegistration() throws Exception {
+        byte[] registrationRequest = objectMapper.writeValueAsBytes(TestDataUtil.getNaturalPersonVehicleRegistrationRequest());
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(registrationRequest))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/vehicles/{vehicleId}", 1))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(registrationRequest))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(VEHICLE_REGISTERED_SUCCESSFULLY))
+                .andExpect(jsonPath("$.vehicleId").value(2));
+
+        mockMvc.perform(get("/vehicles/by-plate/{plateNo}", "ABC123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vehicleId").value(2));
+        assertEquals(2, repository.findAll().size());
+    }
+
     @Test
     void testDelete_VehicleRegistration_withNotSavedVehicleRegistration_shouldReturnNotFound() throws Exception {
         mockMvc.perform(delete("/vehicles/{vehicleId}", 1)
@@ -893,8 +1285,259 @@ public class VehicleRegistrationControllerIntegrationTest {
         assertTrue(deletedVehicleRegistration.isDeleted());
     }
 
+    @Test
+    void testGetVehicleRegistration_shouldReadProjectionWithoutLoadingEntities() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setId(null);
+        Long vehicleId = repository.save(vehicleRegistration).getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            mockMvc.perform(get("/vehicles/{vehicleId}", vehicleId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.plateNo").value("ABC123"));
+            mockMvc.perform(get("/vehicles/by-plate/{plateNo}", "abc-123"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.vehicleId").value(vehicleId));
+
+            assertEquals(2, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+            assertEquals(0, statistics.getFlushCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void testTransferOwner_statementCountDoesNotGrowWithOwnershipHistory() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setId(null);
+        Long vehicleId = repository.save(vehicleRegistration).getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            long shortHistoryStatements = countTransferStatements(statistics, vehicleId, TestDataUtil.getNewOwner());
+            assertEquals(0, statistics.getCollectionLoadCount());
+
+            for (int i = 0; i < 50; i++) {
+                jdbcTemplate.update("INSERT INTO vehicle_ownership_history (vehicle_registration_id, owner_name, owner_surname, owner_code, transfer_date) "
+                        + "VALUES (?, 'Vardas', 'Pavardė', '39601010000', CURRENT_TIMESTAMP)", vehicleId);
+            }
+            long longHistoryStatements = countTransferStatements(statistics, vehicleId,
+                    new TransferOwnerRequest("Ona", "Onaitė", null, "48001010000"));
+
+            assertEquals(shortHistoryStatements, longHistoryStatements);
+            assertEquals(0, statistics.getCollectionLoadCount());
+            assertEquals(1, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+        assertEquals(52, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vehicle_ownership_history", Integer.class));
+    }
+
+    @Test
+    void testGetOwnershipHistory_shouldPageNewestFirstWithCursor() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setId(null);
+        Long vehicleId = repository.save(vehicleRegistration).getId();
+        for (int day = 1; day <= 5; day++) {
+            jdbcTemplate.update("INSERT INTO vehicle_ownership_history (vehicle_registration_id, owner_name, owner_surname, owner_code, transfer_date) "
+                    + "VALUES (?, ?, 'Pavardė', '39601010000', ?)", vehicleId, "Savininkas" + day, Timestamp.valueOf("2025-01-0" + day + " 10:00:00"));
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/vehicles/{vehicleId}/ownership-history", vehicleId)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].ownerName").value("Savininkas5"))
+                .andExpect(jsonPath("$.content[1].ownerName").value("Savininkas4"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+        String after = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        MvcResult secondPage = mockMvc.perform(get("/vehicles/{vehicleId}/ownership-history", vehicleId)
+                        .param("size", "2")
+                        .param("after", after))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].ownerName").value("Savininkas3"))
+                .andExpect(jsonPath("$.content[1].ownerName").value("Savininkas2"))
+                .andReturn();
+        after = objectMapper.readTree(secondPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/vehicles/{vehicleId}/ownership-history", vehicleId)
+                        .param("size", "2")
+                        .param("after", after))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].ownerName").value("Savininkas1"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'IDX_HISTORY_VEHICLE_TRANSFER_DATE'", Integer.class));
+    }
+
+    @Test
+    void testGetOwnershipHistory_withInvalidCursorOrUnknownVehicle_shouldFail() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setId(null);
+        Long vehicleId = repository.save(vehicleRegistration).getId();
+
+        mockMvc.perform(get("/vehicles/{vehicleId}/ownership-history", vehicleId)
+                        .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_PAGE_CURSOR));
+
+        mockMvc.perform(get("/vehicles/{vehicleId}/ownership-history", 42L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(String.format(VEHICLE_NOT_FOUND, 42L)));
+    }
+
+    @Test
+    void testTransferOwnerAndDelete_withIfMatch_shouldRequireCurrentVersion() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setId(null);
+        Long vehicleId = repository.save(vehicleRegistration).getId();
+
+        mockMvc.perform(get("/vehicles/{vehicleId}", vehicleId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.version").value(0));
+
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", vehicleId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNewOwner())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", vehicleId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new TransferOwnerRequest("Ona", "Onaitė", null, "48001010000"))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value(String.format(VEHICLE_VERSION_MISMATCH, 1)));
+
+        mockMvc.perform(delete("/vehicles/{vehicleId}", vehicleId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/vehicles/{vehicleId}", vehicleId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.ownerCode").value(TestDataUtil.getNewOwner().newOwnerCode()));
+
+        mockMvc.perform(delete("/vehicles/{vehicleId}", vehicleId)
+                        .header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(VEHICLE_DELETED));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vehicle_ownership_history", Integer.class));
+    }
+
+    @Test
+    void testConditionalGet_shouldReturnNotModifiedUntilVehicleOrRegistryChanges() throws Exception {
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNaturalPersonVehicleRegistrationRequest())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/vehicles/{vehicleId}", 1))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.lastModifiedAt").isNotEmpty());
+        mockMvc.perform(get("/vehicles/{vehicleId}", 1).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        String listETag = mockMvc.perform(get("/vehicles"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/vehicles").header(HttpHeaders.IF_NONE_MATCH, listETag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNewOwner())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/vehicles/{vehicleId}", 1).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.ownerCode").value(TestDataUtil.getNewOwner().newOwnerCode()));
+        String changedListETag = mockMvc.perform(get("/vehicles").header(HttpHeaders.IF_NONE_MATCH, listETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].ownerCode").value(TestDataUtil.getNewOwner().newOwnerCode()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(listETag, changedListETag);
+    }
+
+    @Test
+    void testTransferOwner_concurrentTransfers_shouldNotLoseUpdatesOrHistory() throws Exception {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setId(null);
+        Long vehicleId = repository.save(vehicleRegistration).getId();
+        int transfers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(transfers);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < transfers; i++) {
+                String ownerCode = "4800101000" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        vehicleRegistrationService.transferOwnerOfVehicleRegistration(vehicleId, "Ona", "Onaitė", null, ownerCode, null);
+                        return true;
+                    } catch (OptimisticLockingFailureException ex) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int transferred = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    transferred++;
+                }
+            }
+
+            assertTrue(transferred > 0);
+            assertEquals(transferred, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vehicle_ownership_history", Integer.class));
+            assertEquals(transferred, jdbcTemplate.queryForObject("SELECT version FROM vehicle_registration WHERE id = ?", Integer.class, vehicleId));
+            assertEquals(transferred - 1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM vehicle_ownership_history WHERE owner_code LIKE '480010100%'", Integer.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long countTransferStatements(Statistics statistics, Long vehicleId, TransferOwnerRequest transferOwnerRequest) throws Exception {
+        statistics.clear();
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", vehicleId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(transferOwnerRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(VEHICLE_OWNER_TRANSFERRED));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long saveVehicle(String plateNo, String make, String model, int year, String ownerSurname, String ownerLegalName) {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setId(null);
+        vehicleRegistration.setPlateNo(plateNo);
+        vehicleRegistration.setMake(make);
+        vehicleRegistration.setModel(model);
+        vehicleRegistration.setYear(year);
+        vehicleRegistration.setOwnerSurname(ownerSurname);
+        vehicleRegistration.setOwnerLegalName(ownerLegalName);
+        return repository.save(vehicleRegistration).getId();
+    }
+
     private void resetAutoIncrement() {
         jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_ownership_history;");
         jdbcTemplate.execute("TRUNCATE TABLE vehicle_registration;");
         jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE;");
         jdbcTemplate.execute("ALTER TABLE vehicle_registration ALTER COLUMN id RESTART WITH 1;");
@@ -0,0 +1,152 @@
+package lt.transport.registration.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.transport.registration.cache.VehicleDetailsCache;
+import lt.transport.registration.cache.VehiclePlateCache;
+import lt.transport.registration.dto.VehicleBulkDeleteRequest;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.stats.VehicleStatistics;
+import lt.transport.registration.util.TestDataUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource("classpath:application-test.properties")
+public class VehicleStatisticsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VehicleStatistics vehicleStatistics;
+
+    @Autowired
+    private VehicleDetailsCache vehicleDetailsCache;
+
+    @Autowired
+    private VehiclePlateCache vehiclePlateCache;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void setUpBeforeAll() {
+        objectMapper = new ObjectMapper();
+    }
+
+    @BeforeEach
+    void setUpBeforeEach() {
+        resetAutoIncrement();
+        vehicleDetailsCache.invalidateAll();
+        vehiclePlateCache.invalidateAll();
+        vehicleStatistics.reconcile();
+    }
+
+    @Test
+    void testGetVehicleStatistics_shouldFollowRegistrationsTransfersAndDeletions() throws Exception {
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNaturalPersonVehicleRegistrationRequest())))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/vehicles/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getLegalEntityVehicleRegistrationRequest())))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/vehicles/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(List.of(
+                                new VehicleRegistrationRequest("HON001", "Honda", "Civic", 2018, "Jonas", "Petrauskas", null, "39601010000")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredCount").value(1));
+
+        mockMvc.perform(get("/vehicles/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVehicles").value(3))
+                .andExpect(jsonPath("$.byMake.Toyota").value(2))
+                .andExpect(jsonPath("$.byMake.Honda").value(1))
+                .andExpect(jsonPath("$.byModel.Toyota.Corolla").value(2))
+                .andExpect(jsonPath("$.byYear.2020").value(2))
+                .andExpect(jsonPath("$.byOwnerType.NATURAL_PERSON").value(2))
+                .andExpect(jsonPath("$.byOwnerType.LEGAL_ENTITY").value(1));
+
+        mockMvc.perform(post("/vehicles/{vehicleId}/transfer-owner", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(TestDataUtil.getNewOwner())))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/vehicles/2"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/vehicles/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVehicles").value(2))
+                .andExpect(jsonPath("$.byMake.Toyota").value(1))
+                .andExpect(jsonPath("$.byModel.Honda.Civic").value(1))
+                .andExpect(jsonPath("$.byOwnerType.NATURAL_PERSON").value(1))
+                .andExpect(jsonPath("$.byOwnerType.LEGAL_ENTITY").value(1));
+
+        mockMvc.perform(delete("/vehicles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new VehicleBulkDeleteRequest(List.of(2L, 3L), null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(1));
+
+        mockMvc.perform(get("/vehicles/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVehicles").value(1))
+                .andExpect(jsonPath("$.byMake.Honda").doesNotExist())
+                .andExpect(jsonPath("$.byYear.2018").doesNotExist())
+                .andExpect(jsonPath("$.byOwnerType.NATURAL_PERSON").doesNotExist())
+                .andExpect(jsonPath("$.byOwnerType.LEGAL_ENTITY").value(1));
+    }
+
+    @Test
+    void testReconcile_shouldPickUpChangesMadeOutsideTheService() throws Exception {
+        jdbcTemplate.update("INSERT INTO vehicle_registration "
+                + "(plate_no, plate_key, make, model, vehicle_year, owner_name, owner_surname, owner_legal_name, owner_code, is_deleted, version) "
+                + "VALUES ('vw0001', 'VW0001', 'Volkswagen', 'Golf', 2015, 'Jonas', 'Petrauskas', NULL, '39601010000', FALSE, 0)");
+
+        mockMvc.perform(get("/vehicles/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVehicles").value(0));
+
+        vehicleStatistics.reconcile();
+
+        mockMvc.perform(get("/vehicles/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVehicles").value(1))
+                .andExpect(jsonPath("$.byModel.Volkswagen.Golf").value(1))
+                .andExpect(jsonPath("$.byYear.2015").value(1))
+                .andExpect(jsonPath("$.byOwnerType.NATURAL_PERSON").value(1))
+                .andExpect(jsonPath("$.reconciledAt", notNullValue()));
+    }
+
+    private void resetAutoIncrement() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_ownership_history;");
+        jdbcTemplate.execute("TRUNCATE TABLE vehicle_registration;");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE;");
+        jdbcTemplate.execute("ALTER TABLE vehicle_registration ALTER COLUMN id RESTART WITH 1;");
+    }
+}
@@ -0,0 +1,121 @@
+package lt.transport.registration.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lt.transport.registration.dto.TransferOwnerRequest;
+import lt.transport.registration.dto.VehicleRegistrationRequest;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=true")
+@TestPropertySource("classpath:application-test.properties")
+public class VirtualThreadsIntegrationTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @LocalServerPort
+    private int port;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testVirtualThreadMode_shouldServeRequestsAndAsyncWorkOnVirtualThreads() throws Exception {
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+        assertInstanceOf(VirtualThreadExecutor.class,
+                webServer.getTomcat().getConnector().getProtocolHandler().getExecutor());
+
+        assertTrue(applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get());
+    }
+
+    /**
+     * Records JFR pinning events while concurrent requests register, read, list and transfer vehicles. Any virtual
+     * thread that blocks inside a monitor (application code, Hikari, H2, Tomcat) fails the test with its stack.
+     */
+    @Test
+    void testVirtualThreadMode_concurrentRequestsShouldNotPinCarrierThreads() throws Exception {
+        List<String> pinnedStacks = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream();
+             HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService clients = Executors.newFixedThreadPool(32)) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED_EVENT, event -> pinnedStacks.add(describe(event)));
+            recording.startAsync();
+
+            List<Future<?>> requests = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String plateNo = String.format("PIN%03d", i);
+                requests.add(clients.submit(() -> exerciseVehicle(httpClient, plateNo)));
+            }
+            for (Future<?> request : requests) {
+                request.get();
+            }
+            recording.stop();
+        }
+
+        assertEquals(List.of(), pinnedStacks);
+    }
+
+    private Void exerciseVehicle(HttpClient httpClient, String plateNo) throws Exception {
+        HttpResponse<String> registered = send(httpClient, "POST", "/vehicles/register",
+                new VehicleRegistrationRequest(plateNo, "Toyota", "Corolla", 2020, "Jonas", "Petrauskas", null, "39601010000"));
+        long vehicleId = objectMapper.readTree(registered.body()).get("vehicleId").asLong();
+        send(httpClient, "GET", "/vehicles/" + vehicleId, null);
+        send(httpClient, "GET", "/owners/39601010000/vehicles?size=20", null);
+        send(httpClient, "POST", "/vehicles/" + vehicleId + "/transfer-owner",
+                new TransferOwnerRequest("Petras", "Petraitis", null, "39001010000"));
+        send(httpClient, "GET", "/vehicles?size=20&includeTotal=false", null);
+        return null;
+    }
+
+    private HttpResponse<String> send(HttpClient httpClient, String method, String path, Object body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .method(method, publisher)
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return response;
+    }
+
+    private static String describe(RecordedEvent event) {
+        StringBuilder stack = new StringBuilder("pinned for " + event.getDuration().toMillis() + " ms");
+        if (event.getStackTrace() != null) {
+            event.getStackTrace().getFrames().forEach(frame -> stack.append("\n\tat ")
+                    .append(frame.getMethod().getType().getName()).append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber()));
+        }
+        return stack.toString();
+    }
+}
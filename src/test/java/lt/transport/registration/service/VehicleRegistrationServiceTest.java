@@ -1,38 +1,73 @@
 package lt.transport.registration.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.transport.registration.cache.VehicleDetailsCache;
+import lt.transport.registration.cache.VehiclePlateCache;
+import lt.transport.registration.cache.VehicleRegistryVersion;
 import lt.transport.registration.dto.TransferOwnerRequest;
+import lt.transport.registration.dto.VehicleOwnershipHistoryPageResponse;
+import lt.transport.registration.dto.VehicleOwnershipHistoryResponse;
 import lt.transport.registration.dto.VehicleRegistrationDetailsResponse;
 import lt.transport.registration.dto.VehicleRegistrationPageResponse;
 import lt.transport.registration.dto.VehicleRegistrationRequest;
+import lt.transport.registration.dto.VehicleSearchFilter;
 import lt.transport.registration.entity.VehicleOwnershipHistory;
 import lt.transport.registration.entity.VehicleRegistration;
-import lt.transport.registration.exception.PlateNoAlreadyExistsException;
+import lt.transport.registration.exception.InvalidPageCursorException;
 import lt.transport.registration.exception.VehicleNotFoundException;
+import lt.transport.registration.exception.VehicleVersionMismatchException;
+import lt.transport.registration.mapper.VehicleRegistrationMapper;
+import lt.transport.registration.repository.VehicleChangeEventRepository;
 import lt.transport.registration.repository.VehicleOwnershipHistoryRepository;
 import lt.transport.registration.repository.VehicleRegistrationRepository;
+import lt.transport.registration.stats.VehicleStatistics;
+import lt.transport.registration.stream.VehicleChangeStream;
+import lt.transport.registration.util.PageCursor;
 import lt.transport.registration.util.TestDataUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.Optional;
+import java.util.Set;
 
 import static lt.transport.registration.constants.ResponseMessages.CURRENT_OWNER_OF_THE_VEHICLE_NOT_FOUND;
-import static lt.transport.registration.constants.ResponseMessages.PLATE_NO_ALREADY_EXISTS;
+import static lt.transport.registration.constants.ResponseMessages.INVALID_PAGE_CURSOR;
 import static lt.transport.registration.constants.ResponseMessages.VEHICLE_NOT_FOUND;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_VERSION_MISMATCH;
+import static lt.transport.registration.constants.ResponseMessages.VEHICLE_WITH_PLATE_NO_NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,6 +80,24 @@ public class VehicleRegistrationServiceTest {
     @Mock
     private VehicleOwnershipHistoryRepository vehicleOwnershipHistoryRepository;
 
+    @Mock
+    private VehicleChangeEventRepository vehicleChangeEventRepository;
+
+    @Mock
+    private VehiclePlateCache vehiclePlateCache;
+
+    @Spy
+    private VehicleDetailsCache vehicleDetailsCache = new VehicleDetailsCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+    @Mock
+    private VehicleStatistics vehicleStatistics;
+
+    @Mock
+    private VehicleChangeStream vehicleChangeStream;
+
+    @Mock
+    private VehicleRegistryVersion vehicleRegistryVersion;
+
     @InjectMocks
     private VehicleRegistrationService vehicleRegistrationService;
 
@@ -59,7 +112,6 @@ public class VehicleRegistrationServiceTest {
         VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration result = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
@@ -73,7 +125,7 @@ public class VehicleRegistrationServiceTest {
         assertNull(result.getOwnerLegalName());
         assertEquals("39601010000", result.getOwnerCode());
         assertFalse(result.isDeleted());
-        verify(vehicleRegistrationRepository, times(1)).findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any());
+        verify(vehicleRegistrationRepository, never()).findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any());
         verify(vehicleRegistrationRepository, times(1)).save(any());
     }
 
@@ -83,7 +135,6 @@ public class VehicleRegistrationServiceTest {
         VehicleRegistration vehicleRegistration = TestDataUtil.getLegalEntityVehicleRegistration();
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration result = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
@@ -97,7 +148,7 @@ public class VehicleRegistrationServiceTest {
         assertEquals("UAB ABC", result.getOwnerLegalName());
         assertEquals("123456789", result.getOwnerCode());
         assertFalse(result.isDeleted());
-        verify(vehicleRegistrationRepository, times(1)).findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any());
+        verify(vehicleRegistrationRepository, never()).findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any());
         verify(vehicleRegistrationRepository, times(1)).save(any());
     }
 
@@ -106,13 +157,29 @@ public class VehicleRegistrationServiceTest {
         VehicleRegistrationRequest vehicleRegistrationRequest = TestDataUtil.getNaturalPersonVehicleRegistrationRequest();
         VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
 
-        when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.of(vehicleRegistration));
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("idx_plate_key");
+        when(vehicleRegistrationRepository.save(any())).thenThrow(violation);
 
-        PlateNoAlreadyExistsException exception = assertThrows(PlateNoAlreadyExistsException.class, () -> {
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () -> {
             vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
         });
-        assertEquals(PLATE_NO_ALREADY_EXISTS, exception.getMessage());
+        assertSame(violation, exception);
+        verify(vehicleRegistrationRepository, never()).findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any());
+        verify(vehiclePlateCache, never()).invalidateAfterCommit(any());
+    }
+
+    @Test
+    void testRegisterVehicle_shouldStoreNormalizedPlateKey() {
+        VehicleRegistrationRequest vehicleRegistrationRequest = new VehicleRegistrationRequest(" abc-12 3 ",
+                "Toyota", "Corolla", 2020, "Jonas", "Petrauskas",
+                null, "39601010000");
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+
+        when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
+
+        vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
+
+        verify(vehicleRegistrationRepository, times(1)).save(argThat(v -> "ABC123".equals(v.getPlateKey())));
     }
 
     @Test
@@ -123,7 +190,6 @@ public class VehicleRegistrationServiceTest {
         VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration result = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
@@ -137,14 +203,14 @@ public class VehicleRegistrationServiceTest {
         assertNull(result.getOwnerLegalName());
         assertEquals("39601010000", result.getOwnerCode());
         assertFalse(result.isDeleted());
-        verify(vehicleRegistrationRepository, times(1)).findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any());
+        verify(vehicleRegistrationRepository, never()).findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any());
         verify(vehicleRegistrationRepository, times(1)).save(any());
     }
 
     @Test
-    void testfindVehicleRegistrationByIdAndIsDeletedFalse() {
+    void testfindDetailsById() {
         VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
-        when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
+        when(vehicleRegistrationRepository.findDetailsById(1L)).thenReturn(Optional.of(VehicleRegistrationMapper.INSTANCE.toDto(vehicleRegistration)));
 
         VehicleRegistrationDetailsResponse result = vehicleRegistrationService.findVehicleRegistrationById(1L);
 
@@ -157,12 +223,24 @@ public class VehicleRegistrationServiceTest {
         assertEquals("Petrauskas", result.ownerSurname());
         assertNull(result.ownerLegalName());
         assertEquals("39601010000", result.ownerCode());
-        verify(vehicleRegistrationRepository, times(1)).findVehicleRegistrationByIdAndIsDeletedFalse(1L);
+        verify(vehicleRegistrationRepository, times(1)).findDetailsById(1L);
+    }
+
+    @Test
+    void testFindVehicleRegistrationById_withCachedRegistration_shouldNotQueryRepositoryAgain() {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        when(vehicleRegistrationRepository.findDetailsById(1L)).thenReturn(Optional.of(VehicleRegistrationMapper.INSTANCE.toDto(vehicleRegistration)));
+
+        VehicleRegistrationDetailsResponse first = vehicleRegistrationService.findVehicleRegistrationById(1L);
+        VehicleRegistrationDetailsResponse second = vehicleRegistrationService.findVehicleRegistrationById(1L);
+
+        assertSame(first, second);
+        verify(vehicleRegistrationRepository, times(1)).findDetailsById(1L);
     }
 
     @Test
     void testFindVehicleRegistrationByIdNotFound() {
-        when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.empty());
+        when(vehicleRegistrationRepository.findDetailsById(1L)).thenReturn(Optional.empty());
 
         VehicleNotFoundException exception = assertThrows(VehicleNotFoundException.class, () -> {
             vehicleRegistrationService.findVehicleRegistrationById(1L);
@@ -170,6 +248,46 @@ public class VehicleRegistrationServiceTest {
         assertEquals(String.format(VEHICLE_NOT_FOUND, 1), exception.getMessage());
     }
 
+    @Test
+    void testFindVehicleRegistrationByPlateNo_shouldLoadThroughCacheByPlateKey() {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        when(vehiclePlateCache.get(eq("ABC123"), any())).thenAnswer(invocation ->
+                invocation.<Function<String, VehicleRegistrationDetailsResponse>>getArgument(1).apply("ABC123"));
+        when(vehicleRegistrationRepository.findDetailsByPlateKey("ABC123")).thenReturn(Optional.of(VehicleRegistrationMapper.INSTANCE.toDto(vehicleRegistration)));
+
+        VehicleRegistrationDetailsResponse result = vehicleRegistrationService.findVehicleRegistrationByPlateNo("abc-123");
+
+        assertNotNull(result);
+        assertEquals(1L, result.vehicleId());
+        assertEquals("ABC123", result.plateNo());
+        assertEquals("Jonas", result.ownerName());
+        verify(vehiclePlateCache, times(1)).get(eq("ABC123"), any());
+        verify(vehicleRegistrationRepository, times(1)).findDetailsByPlateKey("ABC123");
+    }
+
+    @Test
+    void testFindVehicleRegistrationByPlateNo_withCachedRegistration_shouldNotQueryRepository() {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        when(vehiclePlateCache.get(eq("ABC123"), any())).thenReturn(VehicleRegistrationMapper.INSTANCE.toDto(vehicleRegistration));
+
+        VehicleRegistrationDetailsResponse result = vehicleRegistrationService.findVehicleRegistrationByPlateNo("ABC123");
+
+        assertEquals("ABC123", result.plateNo());
+        verify(vehicleRegistrationRepository, times(0)).findDetailsByPlateKey(any());
+    }
+
+    @Test
+    void testFindVehicleRegistrationByPlateNoNotFound() {
+        when(vehiclePlateCache.get(eq("ABC123"), any())).thenAnswer(invocation ->
+                invocation.<Function<String, VehicleRegistrationDetailsResponse>>getArgument(1).apply("ABC123"));
+        when(vehicleRegistrationRepository.findDetailsByPlateKey("ABC123")).thenReturn(Optional.empty());
+
+        VehicleNotFoundException exception = assertThrows(VehicleNotFoundException.class, () -> {
+            vehicleRegistrationService.findVehicleRegistrationByPlateNo("ABC123");
+        });
+        assertEquals(String.format(VEHICLE_WITH_PLATE_NO_NOT_FOUND, "ABC123"), exception.getMessage());
+    }
+
     @Test
     void testTransferOwnerOfVehicleRegistration() {
         VehicleRegistrationRequest vehicleRegistrationRequest = TestDataUtil.getNaturalPersonVehicleRegistrationRequest();
@@ -177,12 +295,12 @@ public class VehicleRegistrationServiceTest {
         when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
+        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration savedVehicleRegistration = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
-        VehicleRegistration transferredVehicleRegistration = vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode());
+        VehicleRegistration transferredVehicleRegistration = vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(), null);
 
         assertNotNull(transferredVehicleRegistration);
 
@@ -213,7 +331,7 @@ public class VehicleRegistrationServiceTest {
         Page<VehicleRegistration> vehicleRegistrationPage = new PageImpl<>(List.of(vehicleRegistration));
         when(vehicleRegistrationRepository.findVehicleRegistrationByIsDeletedFalse(any(Pageable.class))).thenReturn(vehicleRegistrationPage);
 
-        VehicleRegistrationPageResponse result = vehicleRegistrationService.findAllVehicleRegistrations(0, 1, "plateNo", "ASC");
+        VehicleRegistrationPageResponse result = vehicleRegistrationService.findAllVehicleRegistrations(0, 1, "plateNo", "ASC", true);
 
         assertNotNull(result);
         assertEquals(1, result.content().size());
@@ -233,6 +351,92 @@ public class VehicleRegistrationServiceTest {
         verify(vehicleRegistrationRepository, times(1)).findVehicleRegistrationByIsDeletedFalse(any(Pageable.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchVehicleRegistrations_withTotal_shouldQueryBySpecification() {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        Page<VehicleRegistration> vehicleRegistrationPage = new PageImpl<>(List.of(vehicleRegistration), PageRequest.of(0, 1), 2);
+        when(vehicleRegistrationRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(vehicleRegistrationPage);
+        VehicleSearchFilter filter = new VehicleSearchFilter("Toyota", "Corolla", 2015, null, null, null);
+
+        VehicleRegistrationPageResponse result = vehicleRegistrationService.searchVehicleRegistrations(filter, 0, 1, "plateNo", "ASC", null, true);
+
+        assertEquals(1, result.content().size());
+        assertEquals("ABC123", result.content().get(0).plateNo());
+        assertEquals(2, result.totalPages());
+        assertEquals(2, result.totalElements());
+        assertNotNull(result.nextCursor());
+        verify(vehicleRegistrationRepository, times(1)).findAll(any(Specification.class), eq(PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "plateNo"))));
+        verify(vehicleRegistrationRepository, times(0)).findVehicleRegistrationByIsDeletedFalse(any(Pageable.class));
+    }
+
+    @Test
+    void testFindAllVehicleRegistrations_withoutTotal_shouldSkipCountAndReturnCursor() {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        Slice<VehicleRegistration> vehicleRegistrationSlice = new SliceImpl<>(List.of(vehicleRegistration), PageRequest.of(0, 1), true);
+        when(vehicleRegistrationRepository.findSliceByIsDeletedFalse(any(Pageable.class))).thenReturn(vehicleRegistrationSlice);
+
+        VehicleRegistrationPageResponse result = vehicleRegistrationService.findAllVehicleRegistrations(0, 1, "plateNo", "ASC", false);
+
+        assertNotNull(result);
+        assertEquals(1, result.content().size());
+        assertEquals(0, result.currentPage());
+        assertEquals(1, result.pageSize());
+        assertNull(result.totalPages());
+        assertNull(result.totalElements());
+        assertNotNull(result.nextCursor());
+        PageCursor cursor = PageCursor.decode(result.nextCursor(), VehicleRegistration.class);
+        assertEquals("plateNo", cursor.sortBy());
+        assertEquals(Sort.Direction.ASC, cursor.direction());
+        assertEquals("ABC123", cursor.keys().get("plateNo"));
+        assertEquals(1L, cursor.keys().get("id"));
+        verify(vehicleRegistrationRepository, times(0)).findVehicleRegistrationByIsDeletedFalse(any(Pageable.class));
+        verify(vehicleRegistrationRepository, times(0)).countByIsDeletedFalse();
+    }
+
+    @Test
+    void testScrollVehicleRegistrations() {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getLegalEntityVehicleRegistration();
+        String after = new PageCursor("plateNo", Sort.Direction.ASC, Map.of("plateNo", "ABC123", "id", 1L)).encode();
+        Window<VehicleRegistration> window = Window.from(List.of(vehicleRegistration),
+                i -> ScrollPosition.forward(Map.of("plateNo", "BCD456", "id", 2L)), false);
+        when(vehicleRegistrationRepository.findVehicleRegistrationByIsDeletedFalse(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(window);
+
+        VehicleRegistrationPageResponse result = vehicleRegistrationService.scrollVehicleRegistrations(after, 1, false);
+
+        assertEquals(1, result.content().size());
+        assertEquals("BCD456", result.content().get(0).plateNo());
+        assertNull(result.currentPage());
+        assertNull(result.totalElements());
+        assertNull(result.nextCursor());
+        verify(vehicleRegistrationRepository, times(1)).findVehicleRegistrationByIsDeletedFalse(
+                ScrollPosition.forward(Map.of("plateNo", "ABC123", "id", 1L)), Sort.by(Sort.Direction.ASC, "plateNo"), Limit.of(1));
+        verify(vehicleRegistrationRepository, times(0)).countByIsDeletedFalse();
+    }
+
+    @Test
+    void testFindAllVehicleRegistrations_withNullableSortProperty_shouldReturnPageWithoutCursor() {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        Slice<VehicleRegistration> vehicleRegistrationSlice = new SliceImpl<>(List.of(vehicleRegistration), PageRequest.of(0, 1), true);
+        when(vehicleRegistrationRepository.findSliceByIsDeletedFalse(any(Pageable.class))).thenReturn(vehicleRegistrationSlice);
+
+        VehicleRegistrationPageResponse result = vehicleRegistrationService.findAllVehicleRegistrations(0, 1, "ownerLegalName", "ASC", false);
+
+        assertEquals(1, result.content().size());
+        assertEquals(0, result.currentPage());
+        assertNull(result.nextCursor());
+        verify(vehicleRegistrationRepository, times(1)).findSliceByIsDeletedFalse(PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "ownerLegalName")));
+    }
+
+    @Test
+    void testScrollVehicleRegistrations_withInvalidCursor_shouldThrowException() {
+        InvalidPageCursorException exception = assertThrows(InvalidPageCursorException.class, () -> {
+            vehicleRegistrationService.scrollVehicleRegistrations("not-a-cursor", 1, true);
+        });
+        assertEquals(INVALID_PAGE_CURSOR, exception.getMessage());
+    }
+
     @Test
     void testTransferOwner_withNewOwnerOfVehicleRegistrationLegalNameNull_shouldSuccess() {
         VehicleRegistrationRequest vehicleRegistrationRequest = TestDataUtil.getNaturalPersonVehicleRegistrationRequest();
@@ -240,14 +444,14 @@ public class VehicleRegistrationServiceTest {
         when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
+        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration savedVehicleRegistration = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
         TransferOwnerRequest transferOwnerRequest = new TransferOwnerRequest(
                 "Petras", "Petraitis", null, "39601010000");
 
-        VehicleRegistration transferredVehicleRegistration = vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode());
+        VehicleRegistration transferredVehicleRegistration = vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(), null);
 
         assertNotNull(transferredVehicleRegistration);
         assertEquals("ABC123", transferredVehicleRegistration.getPlateNo());
@@ -269,12 +473,12 @@ public class VehicleRegistrationServiceTest {
         VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
         when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.empty());
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
+        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
 
         VehicleNotFoundException exception = assertThrows(VehicleNotFoundException.class, () -> {
-            vehicleRegistrationService.transferOwnerOfVehicleRegistration(vehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode());
+            vehicleRegistrationService.transferOwnerOfVehicleRegistration(vehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(), null);
         });
         assertEquals(String.format(VEHICLE_NOT_FOUND, 1), exception.getMessage());
 
@@ -290,7 +494,7 @@ public class VehicleRegistrationServiceTest {
         when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
+        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration savedVehicleRegistration = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
@@ -298,7 +502,7 @@ public class VehicleRegistrationServiceTest {
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode());
+            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(), null);
         });
         assertEquals(CURRENT_OWNER_OF_THE_VEHICLE_NOT_FOUND, exception.getMessage());
 
@@ -314,7 +518,7 @@ public class VehicleRegistrationServiceTest {
         when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
+        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration savedVehicleRegistration = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
@@ -322,7 +526,7 @@ public class VehicleRegistrationServiceTest {
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode());
+            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(), null);
         });
         assertEquals(CURRENT_OWNER_OF_THE_VEHICLE_NOT_FOUND, exception.getMessage());
 
@@ -338,7 +542,7 @@ public class VehicleRegistrationServiceTest {
         when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
+        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration savedVehicleRegistration = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
@@ -346,7 +550,7 @@ public class VehicleRegistrationServiceTest {
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode());
+            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(), null);
         });
         assertEquals(CURRENT_OWNER_OF_THE_VEHICLE_NOT_FOUND, exception.getMessage());
 
@@ -362,7 +566,7 @@ public class VehicleRegistrationServiceTest {
         when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
+        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration savedVehicleRegistration = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
@@ -370,7 +574,7 @@ public class VehicleRegistrationServiceTest {
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode());
+            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(), null);
         });
         assertEquals(CURRENT_OWNER_OF_THE_VEHICLE_NOT_FOUND, exception.getMessage());
 
@@ -386,13 +590,13 @@ public class VehicleRegistrationServiceTest {
         when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
+        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration savedVehicleRegistration = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
 
-        VehicleRegistration transferredVehicleRegistration = vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode());
+        VehicleRegistration transferredVehicleRegistration = vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(), null);
 
         assertNotNull(transferredVehicleRegistration);
         assertEquals("ABC123", transferredVehicleRegistration.getPlateNo());
@@ -416,7 +620,7 @@ public class VehicleRegistrationServiceTest {
         when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
+        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration savedVehicleRegistration = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
@@ -424,7 +628,7 @@ public class VehicleRegistrationServiceTest {
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode());
+            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(), null);
         });
         assertEquals(CURRENT_OWNER_OF_THE_VEHICLE_NOT_FOUND, exception.getMessage());
 
@@ -440,7 +644,7 @@ public class VehicleRegistrationServiceTest {
         when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
 
         when(vehicleRegistrationRepository.save(any())).thenReturn(vehicleRegistration);
-        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateNoIgnoreCaseAndIsDeletedFalse(any())).thenReturn(Optional.empty());
+        when(vehicleRegistrationRepository.findVehicleRegistrationByPlateKeyAndIsDeletedFalse(any())).thenReturn(Optional.empty());
 
         VehicleRegistration savedVehicleRegistration = vehicleRegistrationService.saveVehicleRegistration(vehicleRegistrationRequest);
 
@@ -448,7 +652,7 @@ public class VehicleRegistrationServiceTest {
         TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode());
+            vehicleRegistrationService.transferOwnerOfVehicleRegistration(savedVehicleRegistration.getId(), transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(), null);
         });
         assertEquals(CURRENT_OWNER_OF_THE_VEHICLE_NOT_FOUND, exception.getMessage());
 
@@ -459,42 +663,167 @@ public class VehicleRegistrationServiceTest {
 
     @Test
     void testDeleteVehicleRegistration() {
-        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
-        when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
-        when(vehicleRegistrationRepository.save(vehicleRegistration)).thenReturn(vehicleRegistration);
+        when(vehicleRegistrationRepository.softDeleteById(1L, null)).thenReturn(1);
+        when(vehicleRegistrationRepository.findPlateNoById(1L)).thenReturn(Optional.of("abc-123"));
+
+        vehicleRegistrationService.deleteVehicleRegistration(1L, null);
+
+        verify(vehicleRegistrationRepository, times(1)).softDeleteById(1L, null);
+        verify(vehicleRegistrationRepository, never()).findVehicleRegistrationByIdAndIsDeletedFalse(any());
+        verify(vehicleRegistrationRepository, never()).save(any(VehicleRegistration.class));
+        verify(vehiclePlateCache, times(1)).invalidateAfterCommit("ABC123");
+        verify(vehicleDetailsCache, times(1)).invalidateAfterCommit(1L);
+        verify(vehicleStatistics, times(1)).deletedAfterCommit(Set.of(1L));
+        verify(vehicleChangeEventRepository, times(1)).recordChanges(eq("DELETED"), any(), eq(List.of(1L)));
+        verify(vehicleChangeStream, times(1)).publishAfterCommit();
+        verify(vehicleRegistryVersion, times(1)).incrementAfterCommit();
+    }
 
-        VehicleRegistration deletedVehicleRegistration = vehicleRegistrationService.deleteVehicleRegistration(1L);
+    @Test
+    void testDelete_VehicleRegistration_withNotSavedVehicleRegistration_shouldThrowException() {
+        when(vehicleRegistrationRepository.softDeleteById(1L, null)).thenReturn(0);
+        when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.empty());
 
-        assertNotNull(deletedVehicleRegistration);
-        assertEquals("ABC123", deletedVehicleRegistration.getPlateNo());
-        assertEquals("Toyota", deletedVehicleRegistration.getMake());
-        assertEquals("Corolla", deletedVehicleRegistration.getModel());
-        assertEquals(2020, deletedVehicleRegistration.getYear());
-        assertEquals("Jonas", deletedVehicleRegistration.getOwnerName());
-        assertEquals("Petrauskas", deletedVehicleRegistration.getOwnerSurname());
-        assertNull(deletedVehicleRegistration.getOwnerLegalName());
-        assertEquals("39601010000", deletedVehicleRegistration.getOwnerCode());
-        assertTrue(deletedVehicleRegistration.isDeleted());
+        VehicleNotFoundException exception = assertThrows(VehicleNotFoundException.class, () -> {
+            vehicleRegistrationService.deleteVehicleRegistration(1L, null);
+        });
+        assertEquals(String.format(VEHICLE_NOT_FOUND, 1), exception.getMessage());
 
+        verify(vehicleRegistrationRepository, times(1)).softDeleteById(1L, null);
         verify(vehicleRegistrationRepository, times(1)).findVehicleRegistrationByIdAndIsDeletedFalse(1L);
-        verify(vehicleRegistrationRepository, times(1)).save(vehicleRegistration);
+        verify(vehicleRegistrationRepository, times(0)).save(any(VehicleRegistration.class));
+        verify(vehicleDetailsCache, never()).invalidateAfterCommit(any());
     }
 
     @Test
-    void testDelete_VehicleRegistration_withNotSavedVehicleRegistration_shouldThrowException() {
+    void testTransferOwnerOfVehicleRegistration_withStaleVersion_shouldThrowException() {
         VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
-        when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.empty());
+        vehicleRegistration.setVersion(2L);
+        when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
+        TransferOwnerRequest transferOwnerRequest = TestDataUtil.getNewOwner();
 
-        VehicleNotFoundException exception = assertThrows(VehicleNotFoundException.class, () -> {
-            vehicleRegistrationService.deleteVehicleRegistration(1L);
+        VehicleVersionMismatchException exception = assertThrows(VehicleVersionMismatchException.class, () -> {
+            vehicleRegistrationService.transferOwnerOfVehicleRegistration(1L, transferOwnerRequest.newOwnerName(), transferOwnerRequest.newOwnerSurname(), transferOwnerRequest.newOwnerLegalName(), transferOwnerRequest.newOwnerCode(), 1L);
         });
-        assertEquals(String.format(VEHICLE_NOT_FOUND, 1), exception.getMessage());
+        assertEquals(String.format(VEHICLE_VERSION_MISMATCH, 2L), exception.getMessage());
 
         verify(vehicleOwnershipHistoryRepository, times(0)).save(any(VehicleOwnershipHistory.class));
-        verify(vehicleRegistrationRepository, times(1)).findVehicleRegistrationByIdAndIsDeletedFalse(vehicleRegistration.getId());
         verify(vehicleRegistrationRepository, times(0)).save(vehicleRegistration);
+    }
 
-        verify(vehicleRegistrationRepository, times(1)).findVehicleRegistrationByIdAndIsDeletedFalse(1L);
+    @Test
+    void testDeleteVehicleRegistration_withStaleVersion_shouldThrowException() {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setVersion(2L);
+        when(vehicleRegistrationRepository.softDeleteById(1L, 1L)).thenReturn(0);
+        when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
+
+        VehicleVersionMismatchException exception = assertThrows(VehicleVersionMismatchException.class, () -> {
+            vehicleRegistrationService.deleteVehicleRegistration(1L, 1L);
+        });
+        assertEquals(String.format(VEHICLE_VERSION_MISMATCH, 2L), exception.getMessage());
+
+        assertFalse(vehicleRegistration.isDeleted());
         verify(vehicleRegistrationRepository, times(0)).save(vehicleRegistration);
     }
+
+    @Test
+    void testDeleteVehicleRegistration_withConcurrentModification_shouldThrowException() {
+        VehicleRegistration vehicleRegistration = TestDataUtil.getNaturalPersonVehicleRegistration();
+        vehicleRegistration.setVersion(1L);
+        when(vehicleRegistrationRepository.softDeleteById(1L, 1L)).thenReturn(0);
+        when(vehicleRegistrationRepository.findVehicleRegistrationByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(vehicleRegistration));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> vehicleRegistrationService.deleteVehicleRegistration(1L, 1L));
+
+        verify(vehicleDetailsCache, never()).invalidateAfterCommit(any());
+    }
+
+    @Test
+    void testFindOwnershipHistory_withMoreRecordsThanPageSize_shouldReturnNextCursor() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 0);
+        when(vehicleRegistrationRepository.existsByIdAndIsDeletedFalse(1L)).thenReturn(true);
+        when(vehicleOwnershipHistoryRepository.findLatestByVehicleId(1L, Limit.of(3))).thenReturn(List.of(
+                historyResponse(5L, now),
+                historyResponse(4L, now.minusDays(1)),
+                historyResponse(3L, now.minusDays(2))));
+
+        VehicleOwnershipHistoryPageResponse result = vehicleRegistrationService.findOwnershipHistory(1L, null, 2);
+
+        assertEquals(2, result.content().size());
+        assertEquals(5L, result.content().get(0).historyId());
+        assertEquals(4L, result.content().get(1).historyId());
+        assertEquals(2, result.pageSize());
+        assertNotNull(result.nextCursor());
+        PageCursor cursor = PageCursor.decode(result.nextCursor(), VehicleOwnershipHistory.class);
+        assertEquals(Sort.Direction.DESC, cursor.direction());
+        assertEquals(now.minusDays(1), cursor.keys().get("transferDate"));
+        assertEquals(4L, cursor.keys().get("id"));
+    }
+
+    @Test
+    void testFindOwnershipHistory_withCursor_shouldQueryRecordsBeforeCursor() {
+        LocalDateTime transferDate = LocalDateTime.of(2025, 1, 14, 10, 0);
+        String after = new PageCursor("transferDate", Sort.Direction.DESC, Map.of("transferDate", transferDate, "id", 4L)).encode();
+        when(vehicleRegistrationRepository.existsByIdAndIsDeletedFalse(1L)).thenReturn(true);
+        when(vehicleOwnershipHistoryRepository.findLatestByVehicleIdBefore(1L, transferDate, 4L, Limit.of(3)))
+                .thenReturn(List.of(historyResponse(3L, transferDate.minusDays(1))));
+
+        VehicleOwnershipHistoryPageResponse result = vehicleRegistrationService.findOwnershipHistory(1L, after, 2);
+
+        assertEquals(1, result.content().size());
+        assertEquals(3L, result.content().get(0).historyId());
+        assertNull(result.nextCursor());
+        verify(vehicleOwnershipHistoryRepository, never()).findLatestByVehicleId(any(), any());
+    }
+
+    @Test
+    void testFindOwnershipHistory_withCursorOfOtherListing_shouldThrowInvalidPageCursorException() {
+        String after = new PageCursor("plateNo", Sort.Direction.ASC, Map.of("plateNo", "abc123", "id", 1L)).encode();
+        when(vehicleRegistrationRepository.existsByIdAndIsDeletedFalse(1L)).thenReturn(true);
+
+        InvalidPageCursorException exception = assertThrows(InvalidPageCursorException.class,
+                () -> vehicleRegistrationService.findOwnershipHistory(1L, after, 2));
+
+        assertEquals(INVALID_PAGE_CURSOR, exception.getMessage());
+    }
+
+    @Test
+    void testFindOwnershipHistory_withUnknownVehicle_shouldThrowVehicleNotFoundException() {
+        when(vehicleRegistrationRepository.existsByIdAndIsDeletedFalse(1L)).thenReturn(false);
+
+        VehicleNotFoundException exception = assertThrows(VehicleNotFoundException.class,
+                () -> vehicleRegistrationService.findOwnershipHistory(1L, null, 10));
+
+        assertEquals(String.format(VEHICLE_NOT_FOUND, 1L), exception.getMessage());
+        verify(vehicleOwnershipHistoryRepository, never()).findLatestByVehicleId(any(), any());
+    }
+
+    @Test
+    void testFindVehicleRegistrationsByOwnerCode_shouldUseIdCursor() {
+        VehicleRegistrationDetailsResponse first = VehicleRegistrationMapper.INSTANCE.toDto(TestDataUtil.getNaturalPersonVehicleRegistration());
+        VehicleRegistration second = TestDataUtil.getNaturalPersonVehicleRegistration();
+        second.setId(7L);
+        when(vehicleRegistrationRepository.findByOwnerCodeAfter("39601010000", 0L, Limit.of(2)))
+                .thenReturn(List.of(first, VehicleRegistrationMapper.INSTANCE.toDto(second)));
+
+        VehicleRegistrationPageResponse result = vehicleRegistrationService.findVehicleRegistrationsByOwnerCode("39601010000", null, 1);
+
+        assertEquals(List.of(first), result.content());
+        assertNull(result.currentPage());
+        assertNull(result.totalElements());
+        assertNotNull(result.nextCursor());
+
+        when(vehicleRegistrationRepository.findByOwnerCodeAfter("39601010000", 1L, Limit.of(2)))
+                .thenReturn(List.of(VehicleRegistrationMapper.INSTANCE.toDto(second)));
+
+        VehicleRegistrationPageResponse nextPage = vehicleRegistrationService.findVehicleRegistrationsByOwnerCode("39601010000", result.nextCursor(), 1);
+
+        assertEquals(7L, nextPage.content().get(0).vehicleId());
+        assertNull(nextPage.nextCursor());
+    }
+
+    private VehicleOwnershipHistoryResponse historyResponse(Long historyId, LocalDateTime transferDate) {
+        return new VehicleOwnershipHistoryResponse(historyId, "Jonas", "Petrauskas", null, "39601010000", transferDate);
+    }
 }
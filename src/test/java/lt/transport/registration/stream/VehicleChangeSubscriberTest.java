@@ -0,0 +1,68 @@
+package lt.transport.registration.stream;
+
+import lt.transport.registration.dto.VehicleChangeEventResponse;
+import lt.transport.registration.dto.VehicleChangeType;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class VehicleChangeSubscriberTest {
+
+    private final SseEmitter emitter = mock(SseEmitter.class);
+
+    @Test
+    void testOffer_withFullBufferAndDropOldestPolicy_shouldDropOldestChange() {
+        VehicleChangeSubscriber subscriber = subscriber(VehicleChangeFilter.of(null, null, null), VehicleChangeStream.OverflowPolicy.DROP_OLDEST);
+
+        assertEquals(0, subscriber.offer(change(1L, 1L, "abc123")));
+        assertEquals(0, subscriber.offer(change(2L, 2L, "bcd456")));
+        assertEquals(1, subscriber.offer(change(3L, 3L, "cde789")));
+
+        assertFalse(subscriber.isClosed());
+        verify(emitter, never()).complete();
+    }
+
+    @Test
+    void testOffer_withFullBufferAndDisconnectPolicy_shouldCloseSubscriber() {
+        VehicleChangeSubscriber subscriber = subscriber(VehicleChangeFilter.of(null, null, null), VehicleChangeStream.OverflowPolicy.DISCONNECT);
+
+        subscriber.offer(change(1L, 1L, "abc123"));
+        subscriber.offer(change(2L, 2L, "bcd456"));
+
+        assertEquals(-1, subscriber.offer(change(3L, 3L, "cde789")));
+        assertTrue(subscriber.isClosed());
+        verify(emitter).complete();
+    }
+
+    @Test
+    void testOffer_withFilterAndAlreadyQueuedChange_shouldSkipChange() {
+        VehicleChangeSubscriber subscriber = subscriber(VehicleChangeFilter.of(null, "ABC 123", null), VehicleChangeStream.OverflowPolicy.DISCONNECT);
+
+        subscriber.offer(change(1L, 1L, "abc123"));
+        subscriber.offer(change(1L, 1L, "abc123"));
+        subscriber.offer(change(2L, 2L, "bcd456"));
+        subscriber.offer(change(3L, 3L, "bcd456"));
+
+        assertEquals(0, subscriber.offer(change(4L, 1L, "abc123")));
+        assertFalse(subscriber.isClosed());
+        assertEquals(-1, subscriber.offer(change(5L, 1L, "abc123")));
+    }
+
+    private VehicleChangeSubscriber subscriber(VehicleChangeFilter filter, VehicleChangeStream.OverflowPolicy overflowPolicy) {
+        return new VehicleChangeSubscriber(emitter, filter, 2, overflowPolicy, command -> {
+        }, 0);
+    }
+
+    private VehicleChangeEventResponse change(Long changeId, Long vehicleId, String plateNo) {
+        return new VehicleChangeEventResponse(changeId, vehicleId, VehicleChangeType.REGISTERED, plateNo, "Toyota", "Corolla", 2020,
+                "Jonas", "Petrauskas", null, "39601010000", 0L, LocalDateTime.of(2025, 1, 15, 10, 0));
+    }
+}